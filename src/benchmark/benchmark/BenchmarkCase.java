@@ -0,0 +1,30 @@
+package benchmark;
+
+import model.MazeSizeModel;
+
+import java.util.function.Supplier;
+
+// a single benchmarked operation, run at one maze size
+// operation returns a value so results can be consumed, stopping the JIT from removing the work as dead code
+final class BenchmarkCase {
+    private final String name;
+    private final MazeSizeModel.MazeSize size;
+    private final Supplier<Object> operation;
+
+    // EFFECTS: construct benchmark case with given name and size, measuring given operation
+    BenchmarkCase(String name, MazeSizeModel.MazeSize size, Supplier<Object> operation) {
+        this.name = name;
+        this.size = size;
+        this.operation = operation;
+    }
+
+    // EFFECTS: returns unique id for this case, in form name/sizeCode (used as key in baseline files)
+    String getId() {
+        return String.format("%s/%s", name, MazeSizeModel.getSizeCode(size));
+    }
+
+    // EFFECTS: runs operation once, returning its result
+    Object runOnce() {
+        return operation.get();
+    }
+}
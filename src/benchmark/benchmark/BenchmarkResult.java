@@ -0,0 +1,47 @@
+package benchmark;
+
+import java.util.Arrays;
+
+// timing results for one benchmark case, in nanoseconds per operation
+final class BenchmarkResult {
+    static final String FIELD_SEPARATOR = "\t";
+
+    private final String id;
+    private final double median;
+    private final double min;
+    private final double max;
+
+    // EFFECTS: construct result for given case id from each measurement iteration's ns/op
+    BenchmarkResult(String id, double[] samples) {
+        this.id = id;
+        double[] sorted = Arrays.copyOf(samples, samples.length);
+        Arrays.sort(sorted);
+        this.median = sorted[sorted.length / 2];
+        this.min = sorted[0];
+        this.max = sorted[sorted.length - 1];
+    }
+
+    String getId() {
+        return id;
+    }
+
+    // EFFECTS: returns median ns/op (used for baseline comparison, since it is least affected by GC pauses)
+    double getMedian() {
+        return median;
+    }
+
+    // EFFECTS: returns result as human readable table row
+    String toReportLine() {
+        return String.format("%-45s %14.1f %14.1f %14.1f", id, median, min, max);
+    }
+
+    // EFFECTS: returns result in baseline file format (id, tab, median ns/op)
+    String toBaselineLine() {
+        return id + FIELD_SEPARATOR + median;
+    }
+
+    // EFFECTS: returns header row matching toReportLine
+    static String reportHeader() {
+        return String.format("%-45s %14s %14s %14s", "benchmark", "median ns/op", "min ns/op", "max ns/op");
+    }
+}
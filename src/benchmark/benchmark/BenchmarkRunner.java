@@ -0,0 +1,200 @@
+package benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// runs every benchmark case in BenchmarkSuite, reports ns/op, and optionally gates on a saved baseline
+// each case is warmed up (so the JIT has compiled it), then timed over several fixed-length iterations
+// usage: BenchmarkRunner [--quick] [--save-baseline FILE] [--baseline FILE] [--tolerance PERCENT]
+//        --save-baseline writes this run's medians to FILE
+//        --baseline compares this run's medians to FILE, exiting with status 1 if any case is more than
+//          PERCENT (default 20) slower than its baseline
+//        --quick uses fewer, shorter iterations (numbers are noisier, for checking the suite runs)
+public class BenchmarkRunner {
+    private static final String REPORT_FILE = "./bench_output.txt";
+    private static final double DEFAULT_TOLERANCE_PERCENT = 20.0;
+    private static final int REGRESSION_EXIT_STATUS = 1;
+
+    private int warmupIterations = 5;
+    private int measureIterations = 10;
+    private long iterationNanos = 200_000_000L;
+    private File saveBaselineFile = null;
+    private File baselineFile = null;
+    private double tolerancePercent = DEFAULT_TOLERANCE_PERCENT;
+    // results are folded into this so the JIT can't treat benchmarked work as dead code
+    private int sink = 0;
+
+    // EFFECTS: runs benchmarks, then exits with non-zero status if baseline comparison fails
+    public static void main(String[] args) throws IOException {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.parseArgs(args);
+        if (!runner.run()) {
+            System.exit(REGRESSION_EXIT_STATUS);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets run options from command line arguments
+    //          throws IllegalArgumentException if an argument isn't recognized
+    private void parseArgs(String[] args) throws IllegalArgumentException {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--quick")) {
+                warmupIterations = 2;
+                measureIterations = 3;
+                iterationNanos = 20_000_000L;
+            } else if (args[i].equals("--save-baseline") && i + 1 < args.length) {
+                saveBaselineFile = new File(args[++i]);
+            } else if (args[i].equals("--baseline") && i + 1 < args.length) {
+                baselineFile = new File(args[++i]);
+            } else if (args[i].equals("--tolerance") && i + 1 < args.length) {
+                tolerancePercent = Double.parseDouble(args[++i]);
+            } else {
+                throw new IllegalArgumentException(String.format("Unknown argument: %s", args[i]));
+            }
+        }
+    }
+
+    // EFFECTS: runs all cases and writes report, returns false if any case regressed against baseline
+    private boolean run() throws IOException {
+        List<BenchmarkResult> results = runCases();
+        writeReport(results);
+        if (saveBaselineFile != null) {
+            writeBaseline(results, saveBaselineFile);
+        }
+        boolean passed = baselineFile == null || compareToBaseline(results, readBaseline(baselineFile));
+        System.out.printf("(sink %d)%n", sink);
+        return passed;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: measures all cases, printing each result, and returns results
+    //          files cases write go in a temporary working directory, which is deleted once cases have run
+    private List<BenchmarkResult> runCases() throws IOException {
+        File workingDirectory = Files.createTempDirectory("minoquar-bench").toFile();
+        try {
+            List<BenchmarkResult> results = new ArrayList<>();
+            System.out.println(BenchmarkResult.reportHeader());
+            for (BenchmarkCase benchmarkCase : BenchmarkSuite.createCases(workingDirectory)) {
+                BenchmarkResult result = measure(benchmarkCase);
+                System.out.println(result.toReportLine());
+                results.add(result);
+            }
+            return results;
+        } finally {
+            deleteDirectory(workingDirectory);
+        }
+    }
+
+    // EFFECTS: deletes given directory and everything in it
+    //          throws IOException if anything can't be deleted
+    private static void deleteDirectory(File directory) throws IOException {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    deleteDirectory(file);
+                } else {
+                    Files.delete(file.toPath());
+                }
+            }
+        }
+        Files.delete(directory.toPath());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: warms up case, then returns its ns/op over each measurement iteration
+    private BenchmarkResult measure(BenchmarkCase benchmarkCase) {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(benchmarkCase);
+        }
+        double[] samples = new double[measureIterations];
+        for (int i = 0; i < measureIterations; i++) {
+            samples[i] = runIteration(benchmarkCase);
+        }
+        return new BenchmarkResult(benchmarkCase.getId(), samples);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs case repeatedly for one iteration length, returns average ns/op
+    //          clock is only read every batch of operations, so timer overhead doesn't swamp fast cases
+    private double runIteration(BenchmarkCase benchmarkCase) {
+        long operations = 0;
+        int batchSize = 1;
+        long start = System.nanoTime();
+        long elapsed = 0;
+        while (elapsed < iterationNanos) {
+            for (int i = 0; i < batchSize; i++) {
+                sink += System.identityHashCode(benchmarkCase.runOnce());
+            }
+            operations += batchSize;
+            elapsed = System.nanoTime() - start;
+            if (elapsed < iterationNanos / 100) {
+                batchSize *= 2;
+            }
+        }
+        return (double) elapsed / operations;
+    }
+
+
+    // Reports and baselines
+
+    // EFFECTS: writes human readable report of results to REPORT_FILE
+    private void writeReport(List<BenchmarkResult> results) throws IOException {
+        try (PrintWriter printWriter = new PrintWriter(REPORT_FILE, "UTF-8")) {
+            printWriter.println(BenchmarkResult.reportHeader());
+            for (BenchmarkResult result : results) {
+                printWriter.println(result.toReportLine());
+            }
+        }
+    }
+
+    // EFFECTS: writes results to given file in baseline format
+    private void writeBaseline(List<BenchmarkResult> results, File file) throws IOException {
+        try (PrintWriter printWriter = new PrintWriter(file, "UTF-8")) {
+            for (BenchmarkResult result : results) {
+                printWriter.println(result.toBaselineLine());
+            }
+        }
+        System.out.printf("Baseline saved to file %s%n", file.getPath());
+    }
+
+    // EFFECTS: returns map of case id to median ns/op, read from given baseline file
+    //          throws IllegalArgumentException if file isn't in baseline format
+    private Map<String, Double> readBaseline(File file) throws IOException, IllegalArgumentException {
+        Map<String, Double> baseline = new HashMap<>();
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            String[] fields = line.split(BenchmarkResult.FIELD_SEPARATOR);
+            if (fields.length != 2) {
+                throw new IllegalArgumentException(String.format("Bad baseline line: %s", line));
+            }
+            baseline.put(fields[0], Double.parseDouble(fields[1]));
+        }
+        return baseline;
+    }
+
+    // EFFECTS: prints comparison of each result to its baseline
+    //          returns false if any result is slower than its baseline by more than tolerance
+    //          cases missing from baseline are reported but don't fail the comparison
+    private boolean compareToBaseline(List<BenchmarkResult> results, Map<String, Double> baseline) {
+        boolean passed = true;
+        for (BenchmarkResult result : results) {
+            Double baselineMedian = baseline.get(result.getId());
+            if (baselineMedian == null) {
+                System.out.printf("NEW        %s%n", result.getId());
+                continue;
+            }
+            double changePercent = 100.0 * (result.getMedian() - baselineMedian) / baselineMedian;
+            boolean regressed = changePercent > tolerancePercent;
+            passed = passed && !regressed;
+            System.out.printf("%-10s %-45s %+7.1f%%%n", regressed ? "REGRESSED" : "ok", result.getId(), changePercent);
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,261 @@
+package benchmark;
+
+import grid.Grid;
+import grid.GridArray;
+import grid.GridPosition;
+import model.GameModel;
+import model.GameState;
+import model.GameSimulator;
+import model.HeroPolicies;
+import model.MazeLayoutModel;
+import model.MazeListModel;
+import model.MazeModel;
+import model.MazeSizeModel;
+import model.MazeSolver;
+import persistence.Reader;
+import persistence.Writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// builds the benchmark cases run by BenchmarkRunner, one of each benchmark for every maze size
+// each case operates on a whole maze (e.g. every square, every position) so cases scale with maze size
+// cases cycle through a pool of mazes to even out layout differences
+// pool mazes are generated from fixed seeds, so every run (and baseline) measures the same layouts
+final class BenchmarkSuite {
+    private static final int MAZE_POOL_SIZE = 8;
+    private static final int BATCH_SIZE = 32;  // mazes per batch generation case
+    private static final int MINOTAUR_TURNS = 5;
+    private static final double MINOTAUR_RANDOM = 0.25;  // fixed, so diagonal choices are repeatable
+    private static final int SIMULATED_GAMES = 4;  // games per pool maze in simulation case
+
+    private BenchmarkSuite() {}
+
+    // EFFECTS: returns all benchmark cases for all maze sizes
+    //          save files for persistence benchmarks are written to given working directory
+    static List<BenchmarkCase> createCases(File workingDirectory) throws IOException {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        for (MazeSizeModel.MazeSize size : MazeSizeModel.MazeSize.values()) {
+            List<MazeModel> mazes = createMazePool(size);
+            cases.add(gridGetCase(size));
+            cases.add(gridSetCase(size));
+            cases.add(subGridIterationCase(size));
+            cases.add(isMoveValidCase(size, mazes));
+            cases.add(getValidMovesCase(size, mazes));
+            cases.add(moveMinotaurCase(size, mazes));
+            cases.add(expandStateCase(size, mazes));
+            cases.add(solveCase(size, mazes));
+            cases.add(simulateCase(size, mazes));
+            cases.add(createRandomMazeCase(size));
+            cases.add(createRandomMazesCase(size));
+            cases.add(saveCase(size, mazes));
+            cases.add(readMazeListCase(size, mazes, workingDirectory));
+        }
+        return cases;
+    }
+
+    // EFFECTS: returns pool of random mazes of given size, generated from seeds 0 to MAZE_POOL_SIZE - 1
+    private static List<MazeModel> createMazePool(MazeSizeModel.MazeSize size) {
+        List<MazeModel> mazes = new ArrayList<>();
+        for (int i = 0; i < MAZE_POOL_SIZE; i++) {
+            mazes.add(new MazeModel(String.format("bench%d", i), size, i));
+        }
+        return mazes;
+    }
+
+
+    // Grid
+
+    // EFFECTS: returns case reading every square of a grid by coordinates
+    private static BenchmarkCase gridGetCase(MazeSizeModel.MazeSize size) {
+        Grid<Integer> grid = createIntegerGrid(MazeSizeModel.getSideLength(size));
+        return new BenchmarkCase("GridArray.get", size, () -> {
+            long sum = 0;
+            for (int y = 0; y < grid.getHeight(); y++) {
+                for (int x = 0; x < grid.getWidth(); x++) {
+                    sum += grid.get(x, y);
+                }
+            }
+            return sum;
+        });
+    }
+
+    // EFFECTS: returns case writing every square of a grid by coordinates
+    private static BenchmarkCase gridSetCase(MazeSizeModel.MazeSize size) {
+        Grid<Integer> grid = createIntegerGrid(MazeSizeModel.getSideLength(size));
+        return new BenchmarkCase("GridArray.set", size, () -> {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                for (int x = 0; x < grid.getWidth(); x++) {
+                    grid.set(x, y, x ^ y);
+                }
+            }
+            return grid;
+        });
+    }
+
+    // EFFECTS: returns case iterating over every square of a sub grid covering all but the grid's outer edge
+    private static BenchmarkCase subGridIterationCase(MazeSizeModel.MazeSize size) {
+        int sideLength = MazeSizeModel.getSideLength(size);
+        Grid<Integer> subGrid = createIntegerGrid(sideLength).subGrid(
+                new GridPosition(1, 1), new GridPosition(sideLength - 2, sideLength - 2));
+        return new BenchmarkCase("SubGrid.iterator", size, () -> {
+            long sum = 0;
+            for (Integer element : subGrid) {
+                sum += element;
+            }
+            return sum;
+        });
+    }
+
+    // EFFECTS: returns square grid of given side length, with each element set to its row-major index
+    private static Grid<Integer> createIntegerGrid(int sideLength) {
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < sideLength * sideLength; i++) {
+            data.add(i);
+        }
+        return new GridArray<>(sideLength, data);
+    }
+
+
+    // Moves
+
+    // EFFECTS: returns case checking moves from every position to the left and top edges of a maze
+    private static BenchmarkCase isMoveValidCase(MazeSizeModel.MazeSize size, List<MazeModel> mazes) {
+        Supplier<MazeModel> mazeSupplier = cycle(mazes);
+        return new BenchmarkCase("MazeModel.isMoveValid", size, () -> {
+            MazeModel maze = mazeSupplier.get();
+            int validMoves = 0;
+            for (int y = 0; y < maze.getSideLength(); y++) {
+                for (int x = 0; x < maze.getSideLength(); x++) {
+                    GridPosition start = GridPosition.of(x, y);
+                    validMoves += maze.isMoveValid(start, GridPosition.of(0, y)) ? 1 : 0;
+                    validMoves += maze.isMoveValid(start, GridPosition.of(x, 0)) ? 1 : 0;
+                }
+            }
+            return validMoves;
+        });
+    }
+
+    // EFFECTS: returns case finding all valid moves from every position of a maze
+    private static BenchmarkCase getValidMovesCase(MazeSizeModel.MazeSize size, List<MazeModel> mazes) {
+        Supplier<MazeModel> mazeSupplier = cycle(mazes);
+        return new BenchmarkCase("MazeModel.getAllValidMoves", size, () -> {
+            MazeModel maze = mazeSupplier.get();
+            int validMoves = 0;
+            for (int y = 0; y < maze.getSideLength(); y++) {
+                for (int x = 0; x < maze.getSideLength(); x++) {
+                    validMoves += maze.getAllValidMoves(GridPosition.of(x, y)).size();
+                }
+            }
+            return validMoves;
+        });
+    }
+
+    // EFFECTS: returns case starting a new game and moving the minotaur for a few turns
+    private static BenchmarkCase moveMinotaurCase(MazeSizeModel.MazeSize size, List<MazeModel> mazes) {
+        Supplier<MazeModel> mazeSupplier = cycle(mazes);
+        return new BenchmarkCase("GameModel.moveMinotaur", size, () -> {
+            GameModel game = new GameModel(mazeSupplier.get());
+            for (int i = 0; i < MINOTAUR_TURNS; i++) {
+                game.moveMinotaur(MINOTAUR_RANDOM);
+            }
+            return game.getMinotaurPosition();
+        });
+    }
+
+    // EFFECTS: returns case expanding a maze's start state: each hero move, then minotaur's response
+    private static BenchmarkCase expandStateCase(MazeSizeModel.MazeSize size, List<MazeModel> mazes) {
+        Supplier<MazeModel> mazeSupplier = cycle(mazes);
+        return new BenchmarkCase("GameState.expand", size, () -> {
+            MazeModel maze = mazeSupplier.get();
+            GameState start = GameState.startOf(maze);
+            long checksum = 0;
+            for (GridPosition move : maze.getAllValidMoves(start.getHeroPosition())) {
+                checksum += start.moveHero(maze, move).moveMinotaur(maze, MINOTAUR_RANDOM).toPacked();
+            }
+            return checksum;
+        });
+    }
+
+    // EFFECTS: returns case finding the shortest win for a maze
+    private static BenchmarkCase solveCase(MazeSizeModel.MazeSize size, List<MazeModel> mazes) {
+        Supplier<MazeModel> mazeSupplier = cycle(mazes);
+        return new BenchmarkCase("MazeSolver.solve", size,
+                () -> new MazeSolver(mazeSupplier.get(), MINOTAUR_RANDOM).solve());
+    }
+
+    // EFFECTS: returns case playing a few random-policy games on every pool maze (in parallel)
+    private static BenchmarkCase simulateCase(MazeSizeModel.MazeSize size, List<MazeModel> mazes) {
+        GameSimulator simulator = new GameSimulator(HeroPolicies.random());
+        return new BenchmarkCase("GameSimulator.simulate", size,
+                () -> simulator.simulate(mazes, SIMULATED_GAMES, 0L));
+    }
+
+
+    // Generation and persistence
+
+    // EFFECTS: returns case generating a random maze layout
+    private static BenchmarkCase createRandomMazeCase(MazeSizeModel.MazeSize size) {
+        return new BenchmarkCase("MazeLayoutModel.createRandomMaze", size,
+                () -> MazeLayoutModel.createRandomMaze(size));
+    }
+
+    // EFFECTS: returns case generating a batch of random mazes (in parallel) into a new maze list
+    private static BenchmarkCase createRandomMazesCase(MazeSizeModel.MazeSize size) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            names.add(String.format("batch%d", i));
+        }
+        return new BenchmarkCase("MazeListModel.createRandomMazes", size, () -> {
+            MazeListModel mazeList = new MazeListModel();
+            mazeList.createRandomMazes(names, size);
+            return mazeList;
+        });
+    }
+
+    // EFFECTS: returns case formatting save data for the maze pool (in memory, so disk speed isn't measured)
+    private static BenchmarkCase saveCase(MazeSizeModel.MazeSize size, List<MazeModel> mazes) {
+        MazeListModel mazeList = new MazeListModel(mazes);
+        return new BenchmarkCase("MazeListModel.save", size, () -> {
+            StringWriter stringWriter = new StringWriter();
+            mazeList.save(new PrintWriter(stringWriter));
+            return stringWriter.getBuffer().length();
+        });
+    }
+
+    // EFFECTS: returns case reading the maze pool back from a save file
+    private static BenchmarkCase readMazeListCase(MazeSizeModel.MazeSize size, List<MazeModel> mazes,
+                                                  File workingDirectory) throws IOException {
+        File saveFile = new File(workingDirectory, String.format("bench_%s.txt", MazeSizeModel.getSizeCode(size)));
+        String trashFilePath = new File(workingDirectory, "bench_trash.txt").getPath();
+        Writer writer = new Writer(saveFile);
+        writer.write(new MazeListModel(mazes));
+        writer.close();
+        return new BenchmarkCase("Reader.readMazeList", size, () -> {
+            try {
+                return Reader.readMazeList(saveFile, trashFilePath);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+
+    // Helpers
+
+    // EFFECTS: returns supplier that returns each item of list in turn, wrapping around at the end
+    private static <T> Supplier<T> cycle(List<T> items) {
+        int[] next = {0};
+        return () -> {
+            T item = items.get(next[0]);
+            next[0] = (next[0] + 1) % items.size();
+            return item;
+        };
+    }
+}
@@ -2,12 +2,18 @@ package grid;
 
 import exceptions.GridPositionOutOfBoundsException;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 public abstract class AbstractGrid<T> implements Grid<T> {
+    // number of writes made to this grid, used to tell when cached hash code is stale
+    // implementations that override set must increment this on every write
+    protected int modCount = 0;
+    private int cachedHashCode;
+    private int cachedHashCodeModCount = -1;  // modCount when cachedHashCode was computed, -1 if never
 
     protected AbstractGrid() {
     }
@@ -37,14 +43,19 @@ public abstract class AbstractGrid<T> implements Grid<T> {
     }
 
     public boolean inBounds(GridPosition position) {
-        boolean inBoundsX = position.getX() >= 0 && position.getX() < getWidth();
-        boolean inBoundsY = position.getY() >= 0 && position.getY() < getHeight();
+        return inBounds(position.getX(), position.getY());
+    }
+
+    public boolean inBounds(int x, int y) {
+        boolean inBoundsX = x >= 0 && x < getWidth();
+        boolean inBoundsY = y >= 0 && y < getHeight();
         return inBoundsX && inBoundsY;
     }
 
 
     // Comparison and hashing
 
+    // short-circuits on dimension mismatch, and on hash code mismatch if both hash codes are already cached
     public boolean equals(Object o) {
         if (o == this) {
             return true;
@@ -52,8 +63,18 @@ public abstract class AbstractGrid<T> implements Grid<T> {
         if (!(o instanceof Grid)) {
             return false;
         }
+        Grid<?> other = (Grid<?>) o;
+        if (getWidth() != other.getWidth() || getHeight() != other.getHeight()) {
+            return false;
+        }
+        if (o instanceof AbstractGrid) {
+            AbstractGrid<?> otherGrid = (AbstractGrid<?>) o;
+            if (hasCachedHashCode() && otherGrid.hasCachedHashCode() && cachedHashCode != otherGrid.cachedHashCode) {
+                return false;
+            }
+        }
         GridSeriesIterator<T> myGSI = gridRowIterator();
-        GridSeriesIterator<?> otherGSI = ((Grid<?>) o).gridRowIterator();
+        GridSeriesIterator<?> otherGSI = other.gridRowIterator();
         while (myGSI.hasNext() && otherGSI.hasNext()) {
             List<T> myRow = myGSI.next();
             List<?> otherRow = otherGSI.next();
@@ -70,7 +91,28 @@ public abstract class AbstractGrid<T> implements Grid<T> {
         return !(myGSI.hasNext() || otherGSI.hasNext());  // both grids end at same number of rows
     }
 
+    // hash code is cached, and only recomputed after grid has been written to
+    // NOTE: elements changed in place (without calling set) will not update the cached hash code
     public int hashCode() {
+        int currentModCount = getModCount();
+        if (cachedHashCodeModCount != currentModCount) {
+            cachedHashCode = computeHashCode();
+            cachedHashCodeModCount = currentModCount;
+        }
+        return cachedHashCode;
+    }
+
+    // EFFECTS: returns number of writes made to this grid (or to the grid backing this view)
+    protected int getModCount() {
+        return modCount;
+    }
+
+    // EFFECTS: returns true if cached hash code is up to date with grid contents
+    private boolean hasCachedHashCode() {
+        return cachedHashCodeModCount == getModCount();
+    }
+
+    private int computeHashCode() {
         int hashCode = 1;
         GridSeriesIterator<T> iterator = gridRowIterator();
         while (iterator.hasNext()) {
@@ -85,13 +127,35 @@ public abstract class AbstractGrid<T> implements Grid<T> {
 
     public abstract T get(GridPosition position) throws GridPositionOutOfBoundsException;
 
+    // implementations backed by flat storage should override this to avoid GridPosition lookups
+    public T get(int x, int y) throws GridPositionOutOfBoundsException {
+        return get(GridPosition.of(x, y));
+    }
+
+    public T get(int index) throws GridPositionOutOfBoundsException {
+        if (index < 0 || index >= getWidth() * getHeight()) {
+            throw new GridPositionOutOfBoundsException(
+                    String.format("Index: %d, Dimension: %d wide x %d high", index, getWidth(), getHeight()));
+        }
+        return get(index % getWidth(), index / getWidth());
+    }
+
     public void set(GridPosition position, T element) throws GridPositionOutOfBoundsException {
         throw new UnsupportedOperationException();
     }
 
+    public void set(int x, int y, T element) throws GridPositionOutOfBoundsException {
+        set(GridPosition.of(x, y), element);
+    }
+
+    // EFFECTS: returns unmodifiable, fixed-length view of given row, backed by this grid
+    //          view reads through to grid, so it reflects later changes to the row without copying
+    //          throws GridPositionOutOfBoundsException if row is out of bounds
     // implementation must not allow manipulation of returned list to change size of grid row!
-    // TODO: change this from abstract, move implementation out of SubGrid.getRow() to here
-    public abstract List<T> getRow(int rowIndex) throws GridPositionOutOfBoundsException;
+    public List<T> getRow(int rowIndex) throws GridPositionOutOfBoundsException {
+        boundsCheck(0, rowIndex);
+        return new RowView(rowIndex);
+    }
     // future development: getColumn
 
 
@@ -127,30 +191,19 @@ public abstract class AbstractGrid<T> implements Grid<T> {
     }
 
     private class GridCellItr implements GridIterator<T> {
-        private GridPosition cursor;  // index of element to be returned by next call to next()
-        private GridPosition lastReturned;  // index of element returned by most recent next()
-
-        public GridCellItr() {
-            cursor = new GridPosition(0, 0);
-            lastReturned = new GridPosition(-1, -1);
-        }
+        private int cursor = 0;  // row-major index of element to be returned by next call to next()
+        private int lastReturned = -1;  // row-major index of element returned by most recent next()
 
         public boolean hasNext() {
-            int linearizedIndex = cursor.getY() * getWidth() + cursor.getX();
-            int linearizedSize = getWidth() * getHeight();
-            return linearizedIndex < linearizedSize;
+            return cursor < getWidth() * getHeight();
         }
 
         public T next() throws NoSuchElementException {
             try {
-                GridPosition i = cursor;
+                int i = cursor;
                 T next = get(i);
                 lastReturned = i;
-                if (cursor.getX() >= getWidth() - 1) {
-                    cursor = new GridPosition(0, cursor.getY() + 1);
-                } else {
-                    cursor = cursor.add(new GridPosition(1, 0));
-                }
+                cursor = i + 1;
                 return next;
             } catch (IndexOutOfBoundsException e) {
                 throw new NoSuchElementException();
@@ -158,11 +211,11 @@ public abstract class AbstractGrid<T> implements Grid<T> {
         }
 
         public void set(T element) throws IllegalStateException {
-            if (lastReturned.getX() < 0 && lastReturned.getY() < 0) {
+            if (lastReturned < 0) {
                 throw new IllegalStateException();
             }
 
-            AbstractGrid.this.set(lastReturned, element);
+            AbstractGrid.this.set(lastReturned % getWidth(), lastReturned / getWidth(), element);
         }
     }
 
@@ -198,6 +251,39 @@ public abstract class AbstractGrid<T> implements Grid<T> {
 
     // View
 
+    // read-only list view of one grid row, indexed by x coordinate
+    private class RowView extends AbstractList<T> implements RandomAccess {
+        private final int rowIndex;
+
+        RowView(int rowIndex) {
+            this.rowIndex = rowIndex;
+        }
+
+        @Override
+        public T get(int index) throws IndexOutOfBoundsException {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(String.format("Index: %d, Row size: %d", index, size()));
+            }
+            return AbstractGrid.this.get(index, rowIndex);
+        }
+
+        @Override
+        public int size() {
+            return getWidth();
+        }
+
+        // same result as AbstractList.hashCode, without creating an iterator
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            for (int i = 0; i < size(); i++) {
+                T element = get(i);
+                hashCode = 31 * hashCode + (element == null ? 0 : element.hashCode());
+            }
+            return hashCode;
+        }
+    }
+
     // subGrid is area bounded by start and end inclusive
     public Grid<T> subGrid(GridPosition start, GridPosition end)
             throws GridPositionOutOfBoundsException, IllegalArgumentException {
@@ -241,106 +327,31 @@ public abstract class AbstractGrid<T> implements Grid<T> {
             return height;
         }
 
-        public T get(GridPosition position) throws GridPositionOutOfBoundsException {
-            boundsCheck(position);
-            return backingGrid.get(offset.add(position));
-        }
-
+        // views are changed through their backing grid, so they share its modification count
         @Override
-        public void set(GridPosition position, T element) throws GridPositionOutOfBoundsException {
-            boundsCheck(position);
-            backingGrid.set(offset.add(position), element);
+        protected int getModCount() {
+            return backingGrid.getModCount();
         }
 
-        public List<T> getRow(int rowIndex) throws GridPositionOutOfBoundsException {
-            GridPosition rowStart = new GridPosition(0, rowIndex);
-            GridPosition rowEnd = new GridPosition(getWidth() - 1, rowIndex);
-            Grid<T> rowView = subGrid(rowStart, rowEnd);
-            List<T> rowList = new ArrayList<>();
-//            for (T element : rowView) {
-//                rowList.add(element);
-//            }
-            for (T element : rowView) {
-                rowList.add(element);
-            }
-            return rowList;
-        }
-
-        public Iterator<T> iterator() {
-            return gridCellIterator();
-        }
-
-        public GridIterator<T> gridCellIterator() {
-            return new GridCellItr();
+        public T get(GridPosition position) throws GridPositionOutOfBoundsException {
+            return get(position.getX(), position.getY());
         }
 
-        public GridSeriesIterator<T> gridRowIterator() {
-            return new GridRowItr();
+        @Override
+        public T get(int x, int y) throws GridPositionOutOfBoundsException {
+            boundsCheck(x, y);
+            return backingGrid.get(offset.getX() + x, offset.getY() + y);
         }
 
-        private class GridCellItr implements GridIterator<T> {
-            private GridPosition cursor = new GridPosition(0, 0);
-            private GridPosition lastReturned = new GridPosition(-1, -1);
-
-            public boolean hasNext() {
-                int linearizedIndex = cursor.getY() * getWidth() + cursor.getX();
-                int linearizedSize = getWidth() * getHeight();
-                return linearizedIndex < linearizedSize;
-            }
-
-            public T next() throws NoSuchElementException {
-                try {
-                    GridPosition i = cursor;
-//                    T next = get(offset.add(i));
-                    T next = get(i);
-                    lastReturned = i;
-                    if (cursor.getX() >= getWidth() - 1) {  // end of row
-                        cursor = new GridPosition(0, cursor.getY() + 1);
-                    } else {
-                        cursor = cursor.add(new GridPosition(1, 0));
-                    }
-                    return next;
-                } catch (IndexOutOfBoundsException e) {
-                    throw new NoSuchElementException();
-                }
-            }
-
-            public void set(T element) throws IllegalStateException {
-                if (lastReturned.getX() < 0 && lastReturned.getY() < 0) {
-                    throw new IllegalStateException();
-                }
-
-                SubGrid.this.set(lastReturned, element);
-            }
+        @Override
+        public void set(GridPosition position, T element) throws GridPositionOutOfBoundsException {
+            set(position.getX(), position.getY(), element);
         }
 
-        private class GridRowItr implements GridSeriesIterator<T> {
-            int cursor = 0;
-            int lastReturned = -1;
-
-            public boolean hasNext() {
-                return cursor != getHeight();
-            }
-
-            public List<T> next() throws NoSuchElementException {
-                try {
-                    int i = cursor;
-                    List<T> next = getRow(i);
-                    lastReturned = i;
-                    cursor = i + 1;
-                    return next;
-                } catch (IndexOutOfBoundsException e) {
-                    throw new NoSuchElementException();
-                }
-            }
-
-            public int nextIndex() {
-                return cursor;
-            }
-
-            public int previousIndex() {
-                return cursor - 1;
-            }
+        @Override
+        public void set(int x, int y, T element) throws GridPositionOutOfBoundsException {
+            boundsCheck(x, y);
+            backingGrid.set(offset.getX() + x, offset.getY() + y, element);
         }
 
         public Grid<T> subGrid(GridPosition start, GridPosition end)
@@ -354,14 +365,22 @@ public abstract class AbstractGrid<T> implements Grid<T> {
     // TODO: do I need to remove this here and just implement it in the concrete classes?
     // protected because child classes may need to use this when overriding methods or implementing abstracts
     protected void boundsCheck(GridPosition position) throws GridPositionOutOfBoundsException {
-        if (!inBounds(position)) {
-            throw new GridPositionOutOfBoundsException(outOfBoundsMessage(position));
+        boundsCheck(position.getX(), position.getY());
+    }
+
+    protected void boundsCheck(int x, int y) throws GridPositionOutOfBoundsException {
+        if (!inBounds(x, y)) {
+            throw new GridPositionOutOfBoundsException(outOfBoundsMessage(x, y));
         }
     }
 
     protected String outOfBoundsMessage(GridPosition position) {
+        return outOfBoundsMessage(position.getX(), position.getY());
+    }
+
+    protected String outOfBoundsMessage(int x, int y) {
         return String.format(
                 "Position: (%d, %d), Dimension: %d wide x %d high",
-                position.getX(), position.getY(), getWidth(), getHeight());
+                x, y, getWidth(), getHeight());
     }
 }
@@ -0,0 +1,162 @@
+package grid;
+
+import exceptions.GridPositionOutOfBoundsException;
+
+import java.util.List;
+
+// capable of storing enum data in 2D grid format, using one byte per cell instead of one reference per cell
+// each cell stores (ordinal + 1) of its element, 0 is used for null
+// supports enums with up to Byte.MAX_VALUE constants
+// coordinate system matches GridArray (origin at top left, x increases right, y increases down)
+public class EnumGridArray<E extends Enum<E>> extends AbstractGrid<E> {
+    private static final byte NULL_CELL = 0;
+
+    private final E[] constants;
+    private final int width;
+    private final int height;
+    private final byte[] data;
+
+
+    // Constructors
+
+    // EFFECTS: create EnumGridArray of given enum type and dimensions with all null elements
+    //          throws exception if enum type has too many constants to fit in a byte
+    public EnumGridArray(Class<E> enumType, int width, int height) throws IllegalArgumentException {
+        this.constants = enumType.getEnumConstants();
+        if (constants.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("Enum %s has %d constants, max is %d",
+                            enumType.getSimpleName(), constants.length, Byte.MAX_VALUE));
+        }
+        this.width = width;
+        this.height = height;
+        this.data = new byte[width * height];
+    }
+
+    // EFFECTS: create square EnumGridArray of given enum type and side length with all null elements
+    public EnumGridArray(Class<E> enumType, int sideLength) throws IllegalArgumentException {
+        this(enumType, sideLength, sideLength);
+    }
+
+    // EFFECTS: create EnumGridArray of given enum type and dimensions with given data
+    //          throws exception if data.size() != width * height
+    public EnumGridArray(Class<E> enumType, int width, int height, List<E> data) throws IllegalArgumentException {
+        this(enumType, width, height);
+        if (data.size() != width * height) {
+            throw new IllegalArgumentException(
+                    String.format("For data list size %d in %dx%d grid", data.size(), width, height));
+        }
+        for (int i = 0; i < this.data.length; i++) {
+            this.data[i] = encode(data.get(i));
+        }
+    }
+
+    // EFFECTS: create square EnumGridArray of given enum type and side length with given data
+    //          throws exception if data.size() != sideLength * sideLength
+    public EnumGridArray(Class<E> enumType, int sideLength, List<E> data) throws IllegalArgumentException {
+        this(enumType, sideLength, sideLength, data);
+    }
+
+    // EFFECTS: create EnumGridArray with same type, dimensions and elements as given grid
+    //          copies underlying byte array in bulk, so it doesn't decode and re-encode each cell
+    public EnumGridArray(EnumGridArray<E> source) {
+        this.constants = source.constants;
+        this.width = source.width;
+        this.height = source.height;
+        this.data = source.data.clone();
+    }
+
+
+    // Query Operations
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // EFFECTS: returns true if element is in grid
+    @Override
+    public boolean contains(E element) {
+        byte target = encode(element);
+        for (byte cell : data) {
+            if (cell == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    // Positional Access Operations
+
+    // EFFECTS: returns element at given position
+    //          throws exception if position is out of bounds
+    public E get(GridPosition position) throws GridPositionOutOfBoundsException {
+        return get(position.getX(), position.getY());
+    }
+
+    // EFFECTS: returns element at given x and y coordinates
+    //          throws exception if coordinates are out of bounds
+    @Override
+    public E get(int x, int y) throws GridPositionOutOfBoundsException {
+        boundsCheck(x, y);
+        return decode(data[y * width + x]);
+    }
+
+    // EFFECTS: returns element at given row-major index
+    //          throws exception if index is out of bounds
+    @Override
+    public E get(int index) throws GridPositionOutOfBoundsException {
+        if (index < 0 || index >= data.length) {
+            return super.get(index);  // throws with standard message
+        }
+        return decode(data[index]);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets element at given position
+    //          throws exception if position is out of bounds
+    @Override
+    public void set(GridPosition position, E element) throws GridPositionOutOfBoundsException {
+        set(position.getX(), position.getY(), element);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets element at given x and y coordinates
+    //          throws exception if coordinates are out of bounds
+    @Override
+    public void set(int x, int y, E element) throws GridPositionOutOfBoundsException {
+        boundsCheck(x, y);
+        data[y * width + x] = encode(element);
+        modCount++;
+    }
+
+
+    // Search Operations
+
+    // EFFECTS: returns position of first occurrence of element in grid, or (-1, -1) if not present
+    @Override
+    public GridPosition positionOf(E element) {
+        byte target = encode(element);
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == target) {
+                return GridPosition.of(i % width, i / width);
+            }
+        }
+        return new GridPosition(-1, -1);
+    }
+
+
+    // Helpers
+
+    private byte encode(E element) {
+        return element == null ? NULL_CELL : (byte) (element.ordinal() + 1);
+    }
+
+    private E decode(byte cell) {
+        return cell == NULL_CELL ? null : constants[cell - 1];
+    }
+}
@@ -17,6 +17,8 @@ public interface Grid<T> extends Iterable<T> {
 
     boolean inBounds(GridPosition position);
 
+    boolean inBounds(int x, int y);
+
     Iterator<T> iterator();
 
 
@@ -41,8 +43,16 @@ public interface Grid<T> extends Iterable<T> {
 
     T get(GridPosition position) throws GridPositionOutOfBoundsException;
 
+    // same as get(GridPosition), without needing a GridPosition instance
+    T get(int x, int y) throws GridPositionOutOfBoundsException;
+
+    // index is row-major: index = y * getWidth() + x
+    T get(int index) throws GridPositionOutOfBoundsException;
+
     void set(GridPosition position, T element) throws GridPositionOutOfBoundsException;
 
+    void set(int x, int y, T element) throws GridPositionOutOfBoundsException;
+
 
     // Search Operations
 
@@ -3,6 +3,7 @@ package grid;
 import exceptions.GridPositionOutOfBoundsException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 // capable of storing data in 2D grid format
@@ -69,59 +70,55 @@ public class GridArray<T> extends AbstractGrid<T> {
 
     // Positional Access Operations
 
-//    // EFFECTS: returns element at given x and y coordinates
-//    //          throws exception if coordinates are out of bounds
-//    public T get(int x, int y) throws GridPositionOutOfBoundsException {
-////        if (isInBounds(x, y)) {
-////            return data.get(coordinatesToListIndex(x, y));
-////        } else {
-////            throw new GridPositionOutOfBoundsException(outOfBoundsMessage(x, y));
-////        }
-//        return get(new GridPosition(x, y));
-//    }
-
     // EFFECTS: returns element at given position
     //          throws exception if position is out of bounds
     public T get(GridPosition position) throws GridPositionOutOfBoundsException {
-//        if (isInBounds(position)) {
-//            return get(position.getX(), position.getY());
-//        } else {
-//            throw new GridPositionOutOfBoundsException(outOfBoundsMessage(position));
-//        }
-        boundsCheck(position);
-        return data.get(positionToListIndex(position));
+        return get(position.getX(), position.getY());
     }
 
-//    // TODO: document method
-//    public void set(int x, int y, T element) throws GridPositionOutOfBoundsException {
-////        if (isInBounds(x, y)) {
-////            data.set(coordinatesToListIndex(x, y), element);
-////        } else {
-////            throw new GridPositionOutOfBoundsException(outOfBoundsMessage(x, y));
-////        }
-//        set(new GridPosition(x, y), element);
-//    }
+    // EFFECTS: returns element at given x and y coordinates
+    //          throws exception if coordinates are out of bounds
+    @Override
+    public T get(int x, int y) throws GridPositionOutOfBoundsException {
+        boundsCheck(x, y);
+        return data.get(y * width + x);
+    }
+
+    // EFFECTS: returns element at given row-major index
+    //          throws exception if index is out of bounds
+    @Override
+    public T get(int index) throws GridPositionOutOfBoundsException {
+        if (index < 0 || index >= data.size()) {
+            return super.get(index);  // throws with standard message
+        }
+        return data.get(index);
+    }
 
-    // TODO: document method
+    // MODIFIES: this
+    // EFFECTS: sets element at given position
+    //          throws exception if position is out of bounds
     public void set(GridPosition position, T element) throws GridPositionOutOfBoundsException {
-//        if (isInBounds(position)) {
-//            set(position.getX(), position.getY(), element);
-//        } else {
-//            throw new GridPositionOutOfBoundsException(outOfBoundsMessage(position));
-//        }
-        boundsCheck(position);
-        data.set(positionToListIndex(position), element);
+        set(position.getX(), position.getY(), element);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets element at given x and y coordinates
+    //          throws exception if coordinates are out of bounds
+    @Override
+    public void set(int x, int y, T element) throws GridPositionOutOfBoundsException {
+        boundsCheck(x, y);
+        data.set(y * width + x, element);
+        modCount++;
     }
 
+    // EFFECTS: returns unmodifiable, fixed-length view of given row, backed directly by grid data
+    //          throws exception if row is out of bounds
+    @Override
     public List<T> getRow(int rowIndex) throws GridPositionOutOfBoundsException {
-        GridPosition rowStartPosition = new GridPosition(0, rowIndex);
-        GridPosition rowEndPosition = new GridPosition(getWidth() - 1, rowIndex);
-        boundsCheck(rowStartPosition);
-        boundsCheck(rowEndPosition);
-        int rowStartIndex = positionToListIndex(rowStartPosition);
-        int rowEndIndex = positionToListIndex(rowEndPosition);
-        List<T> rowView = data.subList(rowStartIndex, rowEndIndex + 1);
-        return new ArrayList<>(rowView);  // making new ArrayList so removals have no effect
+        boundsCheck(0, rowIndex);
+        int rowStartIndex = rowIndex * width;
+        // unmodifiable so removals can't change grid size
+        return Collections.unmodifiableList(data.subList(rowStartIndex, rowStartIndex + width));
     }
 
 
@@ -134,7 +131,7 @@ public class GridArray<T> extends AbstractGrid<T> {
         if (index < 0) {
             return new GridPosition(-1, -1);
         } else {
-            return new GridPosition(index % width, index / width);
+            return GridPosition.of(index % width, index / width);
         }
     }
 
@@ -149,14 +146,6 @@ public class GridArray<T> extends AbstractGrid<T> {
 
     // Helpers
 
-    // EFFECTS: converts positions to index number for "flattened" 2D grid list of given width
-    // Example: if grid width = 5, positionToListIndex(2, 4) -> 14
-    private int positionToListIndex(GridPosition position) {
-        int x = position.getX();
-        int y = position.getY();
-        return y * width + x;
-    }
-
     private List<T> makeNullList(int length) {
         List<T> nullList = new ArrayList<>();
         // TODO: find a better way to do this (iterator? some repeat list method in Collections?)
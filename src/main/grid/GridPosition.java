@@ -1,10 +1,13 @@
 package grid;
 
-import java.util.Objects;
-
 public final class GridPosition {
-    private int posX;
-    private int posY;
+    // positions with both coordinates in [0, CACHE_SIDE_LENGTH) are interned by of()
+    // matches side length of largest maze size, so every in-bounds maze position is cached
+    public static final int CACHE_SIDE_LENGTH = 41;
+    private static final GridPosition[] CACHE = buildCache();
+
+    private final int posX;
+    private final int posY;
 
     // REQUIRES: both x and y >= 0
     // EFFECTS: construct PositionModel with given x, y coordinates
@@ -16,6 +19,23 @@ public final class GridPosition {
         this.posY = y;
     }
 
+    // EFFECTS: returns position with given x, y coordinates
+    //          returns shared instance if both coordinates are in cache range, so no allocation is needed
+    public static GridPosition of(int x, int y) {
+        if (x >= 0 && x < CACHE_SIDE_LENGTH && y >= 0 && y < CACHE_SIDE_LENGTH) {
+            return CACHE[y * CACHE_SIDE_LENGTH + x];
+        }
+        return new GridPosition(x, y);
+    }
+
+    private static GridPosition[] buildCache() {
+        GridPosition[] cache = new GridPosition[CACHE_SIDE_LENGTH * CACHE_SIDE_LENGTH];
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = new GridPosition(i % CACHE_SIDE_LENGTH, i / CACHE_SIDE_LENGTH);
+        }
+        return cache;
+    }
+
     // EFFECTS: return x coordinate
     public int getX() {
         return posX;
@@ -28,12 +48,12 @@ public final class GridPosition {
 
     // EFFECTS: return new PositionModel offset from this position by the x and y of delta
     public GridPosition add(GridPosition delta) {
-        return new GridPosition(posX + delta.getX(), posY + delta.getY());
+        return of(posX + delta.getX(), posY + delta.getY());
     }
 
     // EFFECTS: return new PositionModel representing difference between this position and other
     public GridPosition subtract(GridPosition other) {
-        return new GridPosition(posX - other.getX(), posY - other.getY());
+        return of(posX - other.getX(), posY - other.getY());
     }
 
     @Override
@@ -50,7 +70,7 @@ public final class GridPosition {
 
     @Override
     public int hashCode() {
-        return Objects.hash(posX, posY);
+        return 31 * posX + posY;
     }
 
 }
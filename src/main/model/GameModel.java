@@ -6,34 +6,51 @@ import grid.GridPosition;
 import ui.SquareDisplayData;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
 
 import static java.lang.Math.abs;
-import static java.lang.Math.random;
 
 public class GameModel {
     private MazeModel maze;
     private GameEntity hero;
     private GameEntity minotaur;
     private GameEntity treasure;
+    // makes minotaur's random decisions, so a game with a known seed and hero moves can be replayed exactly
+    private final SplittableRandom random;
+    // positions last sent to UI by display or getDisplayChanges (start positions until then)
+    private GameState displayedState;
 
     // EFFECTS: construct new game with given maze
     public GameModel(MazeModel maze) {
+        this(maze, new SplittableRandom().nextLong());
+    }
+
+    // EFFECTS: construct new game with given maze, making minotaur's random decisions from given seed
+    public GameModel(MazeModel maze, long seed) {
         this.maze = maze;
-        // TODO: implement start point choice
-        // currently using fixed start
-        setupEntities(new GridPosition(7, 0));
+        this.random = new SplittableRandom(seed);
+        setupEntities(maze.getHeroStartPosition());
     }
 
     // REQUIRES: hero's start position must be valid for given maze (based on maze size)
     // EFFECTS: construct new game with given maze
     public GameModel(MazeModel maze, GridPosition start) throws IllegalArgumentException {
+        this(maze, start, new SplittableRandom().nextLong());
+    }
+
+    // REQUIRES: hero's start position must be valid for given maze (based on maze size)
+    // EFFECTS: construct new game with given maze, making minotaur's random decisions from given seed
+    public GameModel(MazeModel maze, GridPosition start, long seed) throws IllegalArgumentException {
         // is public to allow testing
         if (!maze.isPositionValid(start)) {
             throw new IllegalArgumentException(
                     String.format("Hero start (%d, %d) is invalid", start.getX(), start.getY()));
         }
         this.maze = maze;
+        this.random = new SplittableRandom(seed);
         setupEntities(start);
     }
 
@@ -41,6 +58,7 @@ public class GameModel {
         this.hero = new GameEntity(GameEntity.EntityType.HERO, heroStart);
         this.minotaur = new GameEntity(GameEntity.EntityType.MINOTAUR, maze.getMinotaurStartPosition());
         this.treasure = new GameEntity(GameEntity.EntityType.TREASURE, maze.getTreasurePosition());
+        this.displayedState = getState();
     }
 
     // EFFECTS: returns current position of hero in maze
@@ -53,6 +71,11 @@ public class GameModel {
         return minotaur.getPosition();
     }
 
+    // EFFECTS: returns immutable snapshot of current hero, minotaur and treasure positions
+    public GameState getState() {
+        return GameState.of(hero.getPosition(), minotaur.getPosition(), treasure.getPosition());
+    }
+
     // EFFECTS: if move is valid, move hero to end location and return true
     //          return false if move is not valid
     public boolean moveHero(GridPosition end) throws GridPositionOutOfBoundsException {
@@ -73,9 +96,9 @@ public class GameModel {
     //          if diagonal to hero, will move whichever direction has the smallest delta to hero
     //              will end move so it is orthogonal to hero if possible
     //              if both directions are equal, decides randomly
-    //                  chooses horizontal when randomNumber is < 0.5
+    //                  chooses horizontal when game's random number generator gives a number < 0.5
     public boolean moveMinotaur() {
-        return moveMinotaur(random());
+        return moveMinotaur(random.nextDouble());
     }
 
     // MODIFIES: this
@@ -83,94 +106,82 @@ public class GameModel {
     //          using given number to make diagonal movement decision instead of random
     //              horizontal if <0.5, vertical otherwise
     public boolean moveMinotaur(double randomNumber) {
-        GridPosition minotaurPosition = minotaur.getPosition();
-        GridPosition heroPosition = hero.getPosition();
-        GridPosition delta = heroPosition.subtract(minotaurPosition);
+        GridPosition move = findMinotaurMove(maze, minotaur.getPosition(), hero.getPosition(), randomNumber);
+        if (move == null) {
+            return false;
+        }
+        minotaur.setPosition(move);
+        return true;
+    }
+
+    // EFFECTS: returns where minotaur at given position moves to in given maze, when hero is at given position
+    //          (see moveMinotaur for movement rules), or null if minotaur has no possible moves
+    //          minotaur stays where it is if it's already on hero
+    //          shared with MazeSolver and GameState, so they follow exactly the same rules as games
+    //          allocates nothing once maze's move table has the moves it looks up
+    static GridPosition findMinotaurMove(MazeModel maze, GridPosition minotaurPosition, GridPosition heroPosition,
+                                         double randomNumber) {
+        int deltaX = heroPosition.getX() - minotaurPosition.getX();
+        int deltaY = heroPosition.getY() - minotaurPosition.getY();
         // TODO: replace this with handling of NONE direction
-        if (delta.equals(new GridPosition(0, 0))) {
-            return true;
+        if (deltaX == 0 && deltaY == 0) {
+            return minotaurPosition;
         }
-        List<MazeModel.Direction> directions = decideDirection(delta, randomNumber);
-        for (MazeModel.Direction direction : directions) {
-            List<GridPosition> possibleMoves = maze.getValidMoves(minotaurPosition, direction);
-            if (possibleMoves.size() > 0) {
-                minotaur.setPosition(getBestMinotaurMove(possibleMoves, direction, heroPosition));
-                return true;
-            }
+        MazeModel.Direction horizontal = deltaX == 0 ? null : getDirectionFromDelta(deltaX, 0);
+        MazeModel.Direction vertical = deltaY == 0 ? null : getDirectionFromDelta(0, deltaY);
+        boolean horizontalFirst = isHorizontalFirst(deltaX, deltaY, randomNumber);
+        MazeModel.Direction first = horizontalFirst ? horizontal : vertical;
+        MazeModel.Direction second = horizontalFirst ? vertical : horizontal;
+        GridPosition move = getBestMinotaurMove(maze, minotaurPosition, first, heroPosition);
+        if (move == null && second != null) {
+            move = getBestMinotaurMove(maze, minotaurPosition, second, heroPosition);
         }
-        return false;
+        return move;
     }
 
-    // EFFECTS: returns best minotaur move out of list of possible moves
+    // EFFECTS: returns best minotaur move in given direction, or null if there are no possible moves that way
     //          best = puts minotaur on hero, else puts minotaur orthogonal to hero, else greatest distance
-    private GridPosition getBestMinotaurMove(
-            List<GridPosition> possibleMoves, MazeModel.Direction direction, GridPosition heroPosition) {
-        if (direction == MazeModel.Direction.LEFT || direction == MazeModel.Direction.RIGHT) {
-            for (GridPosition possibleMove : possibleMoves) {
-                if (possibleMove.getX() == heroPosition.getX()) {
-                    return possibleMove;
-                }
-            }
-        } else {
-            for (GridPosition possibleMove : possibleMoves) {
-                if (possibleMove.getY() == heroPosition.getY()) {
-                    return possibleMove;
-                }
+    private static GridPosition getBestMinotaurMove(
+            MazeModel maze, GridPosition minotaurPosition, MazeModel.Direction direction, GridPosition heroPosition) {
+        List<GridPosition> possibleMoves = maze.getValidMoves(minotaurPosition, direction);
+        if (possibleMoves.isEmpty()) {
+            return null;
+        }
+        boolean horizontal = direction == MazeModel.Direction.LEFT || direction == MazeModel.Direction.RIGHT;
+        for (GridPosition possibleMove : possibleMoves) {
+            if (horizontal ? possibleMove.getX() == heroPosition.getX() : possibleMove.getY() == heroPosition.getY()) {
+                return possibleMove;
             }
         }
         return possibleMoves.get(possibleMoves.size() - 1);
     }
 
-    // REQUIRES: at least one of x, y in delta is non-zero
-    // TODO: add NONE direction when delta is 0
-    // EFFECTS: returns list of correct directions for minotaur to move based on movement rules
-    //          if orthogonal, move towards hero; list has only 1 element
-    //          if diagonal, choose shorter move between x and y, or random if equal; list has 2 elements
-    private List<MazeModel.Direction> decideDirection(GridPosition delta, double random) {
-        List<MazeModel.Direction> directions;
-        if (delta.getX() != 0 && delta.getY() != 0) {
-            directions = decideDirectionDiagonal(delta, random);
-        } else {
-            directions = new ArrayList<>();
-            directions.add(getDirectionFromDelta(delta));
+    // REQUIRES: at least one of deltaX, deltaY is non-zero
+    // EFFECTS: returns true if minotaur should try moving horizontally before vertically
+    //          if orthogonal, moves towards hero (only one direction is possible)
+    //          if diagonal, tries shorter move between x and y first, or decides randomly if equal
+    //              horizontal when given number is < 0.5
+    private static boolean isHorizontalFirst(int deltaX, int deltaY, double random) {
+        if (deltaX == 0 || deltaY == 0) {
+            return deltaY == 0;
         }
-        return directions;
-    }
-
-    // REQUIRES: both x and y in delta are non-zero
-    // EFFECTS: returns list of correct directions for minotaur when diagonal to hero
-    //          list ordered based on minotaur movement rules (shortest orthagonal distance first)
-    private List<MazeModel.Direction> decideDirectionDiagonal(GridPosition delta, double random) {
-        List<MazeModel.Direction> deltas = new ArrayList<>();
-        if (abs(delta.getX()) < abs(delta.getY())) {
-            deltas.add(getDirectionFromDelta(new GridPosition(delta.getX(), 0)));
-            deltas.add(getDirectionFromDelta(new GridPosition(0, delta.getY())));
-        } else if (abs(delta.getY()) < abs(delta.getX())) {
-            deltas.add(getDirectionFromDelta(new GridPosition(0, delta.getY())));
-            deltas.add(getDirectionFromDelta(new GridPosition(delta.getX(), 0)));
-        } else {
-            if (random < 0.5) {
-                deltas.add(getDirectionFromDelta(new GridPosition(delta.getX(), 0)));
-                deltas.add(getDirectionFromDelta(new GridPosition(0, delta.getY())));
-            } else {
-                deltas.add(getDirectionFromDelta(new GridPosition(0, delta.getY())));
-                deltas.add(getDirectionFromDelta(new GridPosition(delta.getX(), 0)));
-            }
+        if (abs(deltaX) != abs(deltaY)) {
+            return abs(deltaX) < abs(deltaY);
         }
-        return deltas;
+        return random < 0.5;
     }
 
-    // REQUIRES: only one of x, y in delta is 0
+    // REQUIRES: only one of deltaX, deltaY is 0
     // EFFECTS: returns Direction corresponding to given delta
-    private MazeModel.Direction getDirectionFromDelta(GridPosition delta) {
-        if (delta.getX() != 0) {
-            if (delta.getX() > 0) {
+    private static MazeModel.Direction getDirectionFromDelta(int deltaX, int deltaY) {
+        if (deltaX != 0) {
+            if (deltaX > 0) {
                 return MazeModel.Direction.RIGHT;
             } else {
                 return MazeModel.Direction.LEFT;
             }
         } else {
-            if (delta.getY() > 0) {
+            if (deltaY > 0) {
                 return MazeModel.Direction.DOWN;
             } else {
                 return MazeModel.Direction.UP;
@@ -198,16 +209,57 @@ public class GameModel {
         return maze.getTotalPlays();
     }
 
+    // MODIFIES: this
     // EFFECTS: return grid of SquareDisplayData instances to display the current game state
+    //          later calls to getDisplayChanges only return changes from this display
     //          throws GridPositionOutOfBoundsException if entity is out of bounds
     public Grid<SquareDisplayData> display() {
         Grid<SquareDisplayData> display = maze.displayMaze();
         overlayGameElement(treasure, display);
         overlayGameElement(hero, display);
         overlayGameElement(minotaur, display);
+        displayedState = getState();
         return display;
     }
 
+    // MODIFIES: this
+    // EFFECTS: returns new display data for only the squares whose entities have changed since last call to
+    //          display or getDisplayChanges (or since game started), keyed by position
+    //          applying these to last display gives same squares as a new call to display
+    //          only squares entities have left or entered are checked, so a turn gives at most 6 squares
+    //          (usually 4) instead of a new square for every position in maze
+    public Map<GridPosition, SquareDisplayData> getDisplayChanges() {
+        GameState current = getState();
+        Map<GridPosition, SquareDisplayData> changes = new LinkedHashMap<>();
+        GridPosition[] positions = {
+                displayedState.getTreasurePosition(), displayedState.getHeroPosition(),
+                displayedState.getMinotaurPosition(), current.getTreasurePosition(),
+                current.getHeroPosition(), current.getMinotaurPosition()};
+        for (GridPosition position : positions) {
+            List<GameEntity.EntityType> entities = getEntityTypesAt(current, position);
+            if (!changes.containsKey(position) && !entities.equals(getEntityTypesAt(displayedState, position))) {
+                changes.put(position, new SquareDisplayData(maze.getSquare(position), entities));
+            }
+        }
+        displayedState = current;
+        return changes;
+    }
+
+    // EFFECTS: returns types of entities at given position in given state, in order display overlays them
+    private static List<GameEntity.EntityType> getEntityTypesAt(GameState state, GridPosition position) {
+        List<GameEntity.EntityType> entities = new ArrayList<>();
+        if (state.getTreasurePosition().equals(position)) {
+            entities.add(GameEntity.EntityType.TREASURE);
+        }
+        if (state.getHeroPosition().equals(position)) {
+            entities.add(GameEntity.EntityType.HERO);
+        }
+        if (state.getMinotaurPosition().equals(position)) {
+            entities.add(GameEntity.EntityType.MINOTAUR);
+        }
+        return entities;
+    }
+
     // MODIFIES: display
     // EFFECTS: return new grid of display data with game element added at given position
     //          throws GridPositionOutOfBoundsException if entity is out of bounds
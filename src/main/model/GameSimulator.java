@@ -0,0 +1,164 @@
+package model;
+
+import grid.GridPosition;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+// plays games without a UI, with hero moves chosen by a HeroPolicy, and totals their outcomes
+// each turn follows GameUI's click handling: hero moves, game is won if hero is on treasure, otherwise minotaur
+// moves, and game is lost if minotaur is on hero (an invalid hero move, or a minotaur with no moves, ends turn)
+// games that reach turn limit without being won or lost are counted as unfinished
+// mazes are played in parallel, one worker per maze at a time, each game with its own GameModel
+// every game's seeds come from simulation seed, so same seed, mazes and policy always give same results
+public class GameSimulator {
+    public static final int DEFAULT_MAX_TURNS = 200;
+
+    private final HeroPolicy policy;
+    private final int maxTurns;
+
+    // EFFECTS: construct simulator with hero moves chosen by given policy, and DEFAULT_MAX_TURNS turn limit
+    public GameSimulator(HeroPolicy policy) {
+        this(policy, DEFAULT_MAX_TURNS);
+    }
+
+    // EFFECTS: construct simulator with hero moves chosen by given policy, and given turn limit per game
+    public GameSimulator(HeroPolicy policy, int maxTurns) {
+        this.policy = policy;
+        this.maxTurns = maxTurns;
+    }
+
+    // REQUIRES: no maze appears twice in mazes, or is used anywhere else while simulation runs
+    //           (mazes build their layouts and move tables lazily, so aren't safe to share between threads)
+    // EFFECTS: plays given number of games on each maze, and returns totals for each maze
+    //          each maze's seed is drawn from a generator seeded with given seed, and each game's minotaur
+    //          and policy seeds from its maze's seed, so results don't depend on how mazes are shared out
+    public SimulationResult simulate(List<MazeModel> mazes, int gamesPerMaze, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] mazeSeeds = new long[mazes.size()];
+        for (int i = 0; i < mazes.size(); i++) {
+            mazeSeeds[i] = random.nextLong();
+        }
+        SimulationResult result = new SimulationResult(mazes.size());
+        IntStream.range(0, mazes.size())
+                .parallel()
+                .forEach(i -> playMaze(mazes.get(i), i, gamesPerMaze, mazeSeeds[i], result));
+        return result;
+    }
+
+    // MODIFIES: result
+    // EFFECTS: plays given number of games on maze, and records them to result under given maze index
+    private void playMaze(MazeModel maze, int mazeIndex, int games, long mazeSeed, SimulationResult result) {
+        SplittableRandom mazeRandom = new SplittableRandom(mazeSeed);
+        for (int i = 0; i < games; i++) {
+            GameModel game = new GameModel(maze, maze.getHeroStartPosition(), mazeRandom.nextLong());
+            SplittableRandom policyRandom = mazeRandom.split();
+            int turns = 0;
+            MazeModel.Outcome outcome = null;
+            while (outcome == null && turns < maxTurns) {
+                outcome = playTurn(maze, game, policyRandom);
+                turns++;
+            }
+            result.record(mazeIndex, outcome, turns);
+        }
+    }
+
+    // MODIFIES: game, random
+    // EFFECTS: plays one turn of given game, and returns its outcome if game ended, or null if it goes on
+    private MazeModel.Outcome playTurn(MazeModel maze, GameModel game, SplittableRandom random) {
+        GridPosition move = policy.chooseMove(maze, game, random);
+        if (!game.moveHero(move)) {
+            return null;
+        }
+        if (game.checkForWin()) {
+            return MazeModel.Outcome.WIN;
+        }
+        if (game.moveMinotaur() && game.checkForLoss()) {
+            return MazeModel.Outcome.LOSS;
+        }
+        return null;
+    }
+
+    // totals of simulated games, overall and for each maze (by index in simulated maze list)
+    public static class SimulationResult {
+        private final int[] wins;
+        private final int[] losses;
+        private final int[] unfinished;
+        private final long[] turns;
+
+        // EFFECTS: construct empty result for given number of mazes
+        private SimulationResult(int mazeCount) {
+            this.wins = new int[mazeCount];
+            this.losses = new int[mazeCount];
+            this.unfinished = new int[mazeCount];
+            this.turns = new long[mazeCount];
+        }
+
+        // MODIFIES: this
+        // EFFECTS: records game on maze with given index, with given outcome (null if unfinished) and turns played
+        //          each maze's totals are only written by its own worker, so workers don't need to synchronize
+        private void record(int mazeIndex, MazeModel.Outcome outcome, int gameTurns) {
+            if (outcome == MazeModel.Outcome.WIN) {
+                wins[mazeIndex]++;
+            } else if (outcome == MazeModel.Outcome.LOSS) {
+                losses[mazeIndex]++;
+            } else {
+                unfinished[mazeIndex]++;
+            }
+            turns[mazeIndex] += gameTurns;
+        }
+
+        // EFFECTS: returns number of games played
+        public int getGames() {
+            return getWins() + getLosses() + getUnfinished();
+        }
+
+        // EFFECTS: returns number of games won, over all mazes
+        public int getWins() {
+            return IntStream.of(wins).sum();
+        }
+
+        // EFFECTS: returns number of games won on maze with given index
+        public int getWins(int mazeIndex) {
+            return wins[mazeIndex];
+        }
+
+        // EFFECTS: returns number of games lost, over all mazes
+        public int getLosses() {
+            return IntStream.of(losses).sum();
+        }
+
+        // EFFECTS: returns number of games lost on maze with given index
+        public int getLosses(int mazeIndex) {
+            return losses[mazeIndex];
+        }
+
+        // EFFECTS: returns number of games that reached turn limit, over all mazes
+        public int getUnfinished() {
+            return IntStream.of(unfinished).sum();
+        }
+
+        // EFFECTS: returns number of games that reached turn limit on maze with given index
+        public int getUnfinished(int mazeIndex) {
+            return unfinished[mazeIndex];
+        }
+
+        // EFFECTS: returns fraction of games won, over all mazes, or 0 if no games were played
+        public double getWinRate() {
+            return getGames() == 0 ? 0 : (double) getWins() / getGames();
+        }
+
+        // EFFECTS: returns fraction of games won on maze with given index, or 0 if no games were played on it
+        public double getWinRate(int mazeIndex) {
+            int games = wins[mazeIndex] + losses[mazeIndex] + unfinished[mazeIndex];
+            return games == 0 ? 0 : (double) wins[mazeIndex] / games;
+        }
+
+        // EFFECTS: returns average number of turns per game, over all mazes, or 0 if no games were played
+        public double getAverageTurns() {
+            return getGames() == 0 ? 0 : (double) LongStream.of(turns).sum() / getGames();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package model;
+
+import grid.GridPosition;
+
+// immutable snapshot of a game: hero, minotaur and treasure positions, packed into one long
+// each position takes 16 bits (x in low byte, y in high byte): hero in bits 0-15, minotaur in 16-31,
+// treasure in 32-47, so any in-bounds maze position fits (largest side length is 41)
+// transitions follow exactly the same rules as GameModel.moveHero and GameModel.moveMinotaur(double), but return
+// a new state instead of changing this one, so searches can branch from any state without copying a GameModel
+// positions are returned as shared GridPosition.of instances, so expanding a state allocates only the new state
+public final class GameState {
+    private static final int POSITION_BITS = 16;
+    private static final int COORDINATE_BITS = 8;
+    private static final int COORDINATE_MASK = (1 << COORDINATE_BITS) - 1;
+    private static final int HERO_SHIFT = 0;
+    private static final int MINOTAUR_SHIFT = POSITION_BITS;
+    private static final int TREASURE_SHIFT = 2 * POSITION_BITS;
+
+    private final long packed;
+
+    // EFFECTS: construct state from given packed positions
+    private GameState(long packed) {
+        this.packed = packed;
+    }
+
+    // REQUIRES: every coordinate is in [0, 255]
+    // EFFECTS: returns state with given hero, minotaur and treasure positions
+    public static GameState of(GridPosition hero, GridPosition minotaur, GridPosition treasure) {
+        return new GameState(pack(hero) << HERO_SHIFT | pack(minotaur) << MINOTAUR_SHIFT
+                | pack(treasure) << TREASURE_SHIFT);
+    }
+
+    // EFFECTS: returns state at start of a game on given maze
+    public static GameState startOf(MazeModel maze) {
+        return of(maze.getHeroStartPosition(), maze.getMinotaurStartPosition(), maze.getTreasurePosition());
+    }
+
+    // EFFECTS: returns state from given packed positions (see toPacked)
+    public static GameState fromPacked(long packed) {
+        return new GameState(packed);
+    }
+
+    // EFFECTS: returns this state's positions packed into a long, so it can be stored without a GameState
+    public long toPacked() {
+        return packed;
+    }
+
+    // EFFECTS: returns hero's position
+    public GridPosition getHeroPosition() {
+        return unpack(HERO_SHIFT);
+    }
+
+    // EFFECTS: returns minotaur's position
+    public GridPosition getMinotaurPosition() {
+        return unpack(MINOTAUR_SHIFT);
+    }
+
+    // EFFECTS: returns treasure's position
+    public GridPosition getTreasurePosition() {
+        return unpack(TREASURE_SHIFT);
+    }
+
+    // EFFECTS: returns state after hero moves to given end position in given maze, or null if move is not valid
+    //          (see GameModel.moveHero)
+    //          throws GridPositionOutOfBoundsException if end is out of bounds
+    public GameState moveHero(MazeModel maze, GridPosition end) {
+        if (!maze.isMoveValid(getHeroPosition(), end)) {
+            return null;
+        }
+        return withPosition(HERO_SHIFT, end);
+    }
+
+    // EFFECTS: returns state after minotaur moves in given maze, using given number for diagonal decisions
+    //          (see GameModel.moveMinotaur(double)), or this state if minotaur has no possible moves
+    public GameState moveMinotaur(MazeModel maze, double randomNumber) {
+        GridPosition move = GameModel.findMinotaurMove(maze, getMinotaurPosition(), getHeroPosition(), randomNumber);
+        if (move == null) {
+            return this;
+        }
+        return withPosition(MINOTAUR_SHIFT, move);
+    }
+
+    // EFFECTS: returns true if hero has captured treasure (see GameModel.checkForWin)
+    public boolean isWon() {
+        return field(HERO_SHIFT) == field(TREASURE_SHIFT);
+    }
+
+    // EFFECTS: returns true if minotaur is on hero (see GameModel.checkForLoss)
+    public boolean isLost() {
+        return field(HERO_SHIFT) == field(MINOTAUR_SHIFT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return packed == ((GameState) o).packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GameState(hero %s, minotaur %s, treasure %s)",
+                positionString(HERO_SHIFT), positionString(MINOTAUR_SHIFT), positionString(TREASURE_SHIFT));
+    }
+
+    // EFFECTS: returns copy of this state with position at given shift replaced by given position
+    private GameState withPosition(int shift, GridPosition position) {
+        long cleared = packed & ~((1L << POSITION_BITS) - 1 << shift);
+        return new GameState(cleared | pack(position) << shift);
+    }
+
+    // EFFECTS: returns packed position at given shift
+    private int field(int shift) {
+        return (int) (packed >>> shift) & ((1 << POSITION_BITS) - 1);
+    }
+
+    private GridPosition unpack(int shift) {
+        int field = field(shift);
+        return GridPosition.of(field & COORDINATE_MASK, field >>> COORDINATE_BITS);
+    }
+
+    private String positionString(int shift) {
+        GridPosition position = unpack(shift);
+        return String.format("(%d, %d)", position.getX(), position.getY());
+    }
+
+    private static long pack(GridPosition position) {
+        return (long) position.getY() << COORDINATE_BITS | position.getX();
+    }
+}
@@ -0,0 +1,67 @@
+package model;
+
+import grid.GridPosition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// standard hero policies for simulated games (see GameSimulator)
+public final class HeroPolicies {
+    // numbers minotaur can use for diagonal decisions (see GameModel.moveMinotaur(double)), one for each choice
+    private static final double[] TIE_BREAKS = {0.0, 0.5};
+
+    private HeroPolicies() {}
+
+    // EFFECTS: returns policy that picks a valid move at random
+    //          a hero with no valid moves stays where it is (wasting its turn)
+    public static HeroPolicy random() {
+        return (maze, game, random) -> {
+            List<GridPosition> moves = maze.getAllValidMoves(game.getHeroPosition());
+            return moves.isEmpty() ? game.getHeroPosition() : moves.get(random.nextInt(moves.size()));
+        };
+    }
+
+    // EFFECTS: returns policy that moves as close to treasure as it can (in moves, ignoring minotaur),
+    //          out of moves minotaur can't respond to by catching hero, whichever way it breaks a diagonal tie
+    //          picks at random between equally close moves, and falls back to a random move if none are safe
+    public static HeroPolicy greedy() {
+        return HeroPolicies::chooseGreedyMove;
+    }
+
+    // EFFECTS: returns greedy policy's choice of move in given game (see greedy)
+    private static GridPosition chooseGreedyMove(MazeModel maze, GameModel game, SplittableRandom random) {
+        int[] distances = maze.getTreasureDistances();
+        List<GridPosition> closestMoves = new ArrayList<>();
+        int closestDistance = Integer.MAX_VALUE;
+        for (GridPosition move : maze.getAllValidMoves(game.getHeroPosition())) {
+            int distance = distances[move.getY() * maze.getSideLength() + move.getX()];
+            if (distance == MazeLayoutModel.UNREACHABLE || distance > closestDistance || !isSafe(maze, game, move)) {
+                continue;
+            }
+            if (distance < closestDistance) {
+                closestMoves.clear();
+                closestDistance = distance;
+            }
+            closestMoves.add(move);
+        }
+        if (closestMoves.isEmpty()) {
+            return random().chooseMove(maze, game, random);
+        }
+        return closestMoves.get(random.nextInt(closestMoves.size()));
+    }
+
+    // EFFECTS: returns true if hero moving to given position wins, or can't be caught by minotaur's response
+    private static boolean isSafe(MazeModel maze, GameModel game, GridPosition move) {
+        if (move.equals(maze.getTreasurePosition())) {
+            return true;
+        }
+        for (double tieBreak : TIE_BREAKS) {
+            GridPosition response = GameModel.findMinotaurMove(maze, game.getMinotaurPosition(), move, tieBreak);
+            if (move.equals(response)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package model;
+
+import grid.GridPosition;
+
+import java.util.SplittableRandom;
+
+// chooses hero's moves in simulated games (see GameSimulator), in place of a player's clicks
+// one policy is shared by every simulation worker, so it must not keep state between calls
+public interface HeroPolicy {
+    // EFFECTS: returns position hero should move to next in given game on given maze
+    //          random is given game's own generator, for policies that make random choices
+    //          move must be in bounds, and an invalid move wastes hero's turn, like an invalid click
+    GridPosition chooseMove(MazeModel maze, GameModel game, SplittableRandom random);
+}
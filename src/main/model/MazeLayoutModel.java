@@ -19,30 +19,50 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
 
     private static final MazeSquare W = MazeSquare.WALL;
     private static final MazeSquare P = MazeSquare.PASSAGE;
-    public static final Grid<MazeSquare> FINDER_PATTERN = new GridArray<>(7, 7, new ArrayList<>(Arrays.asList(
+    public static final Grid<MazeSquare> FINDER_PATTERN = new EnumGridArray<>(MazeSquare.class, 7, 7, Arrays.asList(
             W, W, W, W, W, W, W,
             W, P, P, P, P, P, W,
             W, P, W, W, W, P, W,
             W, P, W, W, W, P, W,
             W, P, W, W, W, P, W,
             W, P, P, P, P, P, W,
-            W, W, W, W, W, W, W)));
-    public static final Grid<MazeSquare> FINDER_MARGIN_VERTICAL = new GridArray<>(1, 8,
-            new ArrayList<>(Arrays.asList(P, P, P, P, P, P, P, P)));
-    public static final Grid<MazeSquare> FINDER_MARGIN_HORIZONTAL = new GridArray<>(7, 1,
-            new ArrayList<>(Arrays.asList(P, P, P, P, P, P, P)));
-    public static final Grid<MazeSquare> ALIGNMENT_PATTERN = new GridArray<>(5, 5, new ArrayList<>(Arrays.asList(
+            W, W, W, W, W, W, W));
+    public static final Grid<MazeSquare> FINDER_MARGIN_VERTICAL = new EnumGridArray<>(MazeSquare.class, 1, 8,
+            Arrays.asList(P, P, P, P, P, P, P, P));
+    public static final Grid<MazeSquare> FINDER_MARGIN_HORIZONTAL = new EnumGridArray<>(MazeSquare.class, 7, 1,
+            Arrays.asList(P, P, P, P, P, P, P));
+    public static final Grid<MazeSquare> ALIGNMENT_PATTERN = new EnumGridArray<>(MazeSquare.class, 5, 5, Arrays.asList(
             W, W, W, W, W,
             W, P, P, P, W,
             W, P, W, P, W,
             W, P, P, P, W,
-            W, W, W, W, W)));
-    public static final Grid<MazeSquare> DARK_MODULE = new GridArray<>(1, 1,
-            new ArrayList<>(Collections.singletonList(W)));
+            W, W, W, W, W));
+    public static final Grid<MazeSquare> DARK_MODULE = new EnumGridArray<>(MazeSquare.class, 1, 1,
+            Collections.singletonList(W));
     public static final double PERCENT_WALL = 0.4;
-
-    private Grid<MazeSquare> grid;
+    // version of random maze generation, saved with seeds so a seed is never regenerated by a different algorithm
+    // must be increased if anything changes which layout createRandomMaze makes from a given seed
+    public static final byte GENERATOR_VERSION = 1;
+    public static final int UNREACHABLE = -1;  // move distance to squares target can't be reached from
+    private static final List<GridPosition> NEIGHBOUR_OFFSETS = Collections.unmodifiableList(Arrays.asList(
+            new GridPosition(0, -1),
+            new GridPosition(0, 1),
+            new GridPosition(-1, 0),
+            new GridPosition(1, 0)));
+
+    // base layout for each size, with static QR code elements and all other squares EMPTY
+    // built once and never modified, random layouts start as a copy of their size's template
+    private static final Map<MazeSizeModel.MazeSize, MazeLayoutModel> TEMPLATES = createTemplates();
+
+    private EnumGridArray<MazeSquare> grid;
     private MazeSizeModel.MazeSize size;
+    // bitset index of square types, kept in sync with grid by setSquare
+    // rows are indexed by y (bit x set if square matches), columns by x (bit y set if square matches)
+    // side lengths are at most 41, so each row or column fits in one long
+    private long[] rowWalls;
+    private long[] rowPassages;
+    private long[] columnWalls;
+    private long[] columnPassages;
 
     // EFFECTS: Construct empty maze layout (only EMPTY squares) of given size
     private MazeLayoutModel(MazeSizeModel.MazeSize mazeSize) {
@@ -52,17 +72,55 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
         for (int i = 0; i < (sideLength * sideLength); i++) {
             layoutEmpty.add(i, MazeSquare.EMPTY);
         }
-        this.grid = new GridArray<>(sideLength, sideLength, layoutEmpty);
+        this.grid = new EnumGridArray<>(MazeSquare.class, sideLength, sideLength, layoutEmpty);
         this.size = mazeSize;
+        this.rowWalls = new long[sideLength];
+        this.rowPassages = new long[sideLength];
+        this.columnWalls = new long[sideLength];
+        this.columnPassages = new long[sideLength];
+    }
+
+    // EFFECTS: construct copy of given maze layout, sharing no state with it
+    private MazeLayoutModel(MazeLayoutModel source) {
+        this.grid = new EnumGridArray<>(source.grid);
+        this.size = source.size;
+        this.rowWalls = source.rowWalls.clone();
+        this.rowPassages = source.rowPassages.clone();
+        this.columnWalls = source.columnWalls.clone();
+        this.columnPassages = source.columnPassages.clone();
+    }
+
+    // EFFECTS: returns template layout for each maze size (see TEMPLATES)
+    private static Map<MazeSizeModel.MazeSize, MazeLayoutModel> createTemplates() {
+        Map<MazeSizeModel.MazeSize, MazeLayoutModel> templates = new EnumMap<>(MazeSizeModel.MazeSize.class);
+        for (MazeSizeModel.MazeSize size : MazeSizeModel.MazeSize.values()) {
+            MazeLayoutModel template = new MazeLayoutModel(size);
+            template.addQRCodeElements();
+            templates.put(size, template);
+        }
+        return Collections.unmodifiableMap(templates);
     }
 
     // MODIFIES: this
     // EFFECTS: create random maze layout of given size
     // TODO: document IncompleteMazeException
     public static MazeLayoutModel createRandomMaze(MazeSizeModel.MazeSize size) {
-        MazeLayoutModel randomMaze = new MazeLayoutModel(size);
-        randomMaze.addQRCodeElements();
-        randomMaze.fillRemainingSquares();
+        return createRandomMaze(size, new SplittableRandom());
+    }
+
+    // EFFECTS: create random maze layout of given size, generated from given seed
+    //          same size and seed always make same layout (for this GENERATOR_VERSION)
+    public static MazeLayoutModel createRandomMaze(MazeSizeModel.MazeSize size, long seed) {
+        return createRandomMaze(size, new SplittableRandom(seed));
+    }
+
+    // MODIFIES: random
+    // EFFECTS: create random maze layout of given size, using given random number generator
+    //          each thread generating mazes should use its own generator (e.g. split from a shared one)
+    //          layout starts as a copy of size's template, so QR code elements aren't rebuilt for each maze
+    public static MazeLayoutModel createRandomMaze(MazeSizeModel.MazeSize size, SplittableRandom random) {
+        MazeLayoutModel randomMaze = new MazeLayoutModel(TEMPLATES.get(size));
+        randomMaze.fillRemainingSquares(random);
         return randomMaze;
     }
 
@@ -76,7 +134,7 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
         List<MazeSquare> parsedLayoutData = parseSavedLayout(savedLayout);
         Grid<MazeSquare> mazeLayout = null;
         try {
-            mazeLayout = new GridArray<>(sideLength, sideLength, parsedLayoutData);
+            mazeLayout = new EnumGridArray<>(MazeSquare.class, sideLength, sideLength, parsedLayoutData);
         } catch (IllegalArgumentException e) {
             throw new InvalidMazeSaveDataException(e.getMessage(), e);
         }
@@ -84,6 +142,25 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
         return newMaze;
     }
 
+    // EFFECTS: create maze layout of given size from packed layout (see getPackedLayout)
+    //          throws InvalidMazeSaveDataException if packed layout is wrong length for size
+    public static MazeLayoutModel createMazeFromPackedLayout(MazeSizeModel.MazeSize size, byte[] packedLayout)
+            throws InvalidMazeSaveDataException {
+        int sideLength = MazeSizeModel.getSideLength(size);
+        if (packedLayout.length != Utilities.divideRoundUp(sideLength * sideLength, Byte.SIZE)) {
+            throw new InvalidMazeSaveDataException(String.format("Packed layout has %d bytes, expected %d x %d squares",
+                    packedLayout.length, sideLength, sideLength));
+        }
+        MazeLayoutModel newMaze = new MazeLayoutModel(size);
+        BitSet walls = BitSet.valueOf(packedLayout);
+        for (int y = 0; y < sideLength; y++) {
+            for (int x = 0; x < sideLength; x++) {
+                newMaze.setSquare(x, y, walls.get(y * sideLength + x) ? MazeSquare.WALL : MazeSquare.PASSAGE);
+            }
+        }
+        return newMaze;
+    }
+
     // EFFECTS: returns this maze layout's size
     public MazeSizeModel.MazeSize getSize() {
         return size;
@@ -132,16 +209,12 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
 
     // EFFECTS: returns all valid orthogonal neighbors of the given position
     private List<GridPosition> findNeighbourPositions(GridPosition center) {
-        List<GridPosition> neighbours = new ArrayList<>();
-        List<GridPosition> offsets = new ArrayList<>(Arrays.asList(
-                new GridPosition(0, -1),
-                new GridPosition(0, 1),
-                new GridPosition(-1, 0),
-                new GridPosition(1, 0)));
-        for (GridPosition offset : offsets) {
-            GridPosition neighbour = center.add(offset);
-            if (inBounds(neighbour)) {
-                neighbours.add(neighbour);
+        List<GridPosition> neighbours = new ArrayList<>(NEIGHBOUR_OFFSETS.size());
+        for (GridPosition offset : NEIGHBOUR_OFFSETS) {
+            int neighbourX = center.getX() + offset.getX();
+            int neighbourY = center.getY() + offset.getY();
+            if (grid.inBounds(neighbourX, neighbourY)) {
+                neighbours.add(GridPosition.of(neighbourX, neighbourY));
             }
         }
         return neighbours;
@@ -158,6 +231,157 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
         return grid.get(position);
     }
 
+    // REQUIRES: start and end are orthogonal (same row or same column)
+    // EFFECTS: returns true if all squares between start and end (exclusive) are the same type
+    //          also returns true if there are no squares between start and end
+    //          uses bitset index, so takes constant time regardless of distance
+    //          throws GridPositionOutOfBoundsException if start or end is out of bounds
+    public boolean areSquaresBetweenUniform(GridPosition start, GridPosition end)
+            throws GridPositionOutOfBoundsException {
+        if (!(inBounds(start) && inBounds(end))) {
+            throw new GridPositionOutOfBoundsException(
+                    String.format("Start: %d, %d, End: %d, %d",
+                            start.getX(), start.getY(), end.getX(), end.getY()));
+        }
+        if (start.getY() == end.getY()) {
+            long mask = spanMask(start.getX(), end.getX());
+            return isSpanUniform(rowWalls[start.getY()], rowPassages[start.getY()], mask);
+        } else {
+            long mask = spanMask(start.getY(), end.getY());
+            return isSpanUniform(columnWalls[start.getX()], columnPassages[start.getX()], mask);
+        }
+    }
+
+    // REQUIRES: layout is complete (no EMPTY squares)
+    // EFFECTS: returns true if end can be reached from start by a series of valid moves (see MazeModel.isMoveValid)
+    //          a move can always reach the nearest passage along a row or column, even past walls, so every
+    //          passage in a row (or column) can reach every other one
+    //          so search is over rows and columns instead of squares: a row reaches each column it has a passage
+    //          in, and a column reaches each row it has a passage in
+    //          reached rows and columns are bitsets, and each search step reads bitset index one line at a time
+    //          throws GridPositionOutOfBoundsException if start or end is out of bounds
+    public boolean isReachable(GridPosition start, GridPosition end) throws GridPositionOutOfBoundsException {
+        if (!(inBounds(start) && inBounds(end))) {
+            throw new GridPositionOutOfBoundsException(String.format("Start: %d, %d, End: %d, %d",
+                    start.getX(), start.getY(), end.getX(), end.getY()));
+        }
+        if (getSquare(end) != MazeSquare.PASSAGE) {
+            return start.equals(end);
+        }
+        long rows = 1L << start.getY();
+        long columns = 1L << start.getX();
+        long newRows = rows;
+        long newColumns = columns;
+        while (newRows != 0 || newColumns != 0) {
+            if ((rows & (1L << end.getY())) != 0 || (columns & (1L << end.getX())) != 0) {
+                return true;
+            }
+            long reachedColumns = lookUpLines(newRows, rowPassages);
+            long reachedRows = lookUpLines(newColumns, columnPassages);
+            newColumns = reachedColumns & ~columns;
+            newRows = reachedRows & ~rows;
+            columns |= newColumns;
+            rows |= newRows;
+        }
+        return false;
+    }
+
+    // REQUIRES: layout is complete (no EMPTY squares)
+    // EFFECTS: returns number of moves needed to reach target from each square (by row-major index), ignoring
+    //          minotaur, or UNREACHABLE if target can't be reached from square (see MazeModel.isMoveValid)
+    //          moves are reversible, so searches out from target, one move at a time (breadth first)
+    //          each step moves whole frontier along every row and column at once, using bitset index
+    //          throws GridPositionOutOfBoundsException if target is out of bounds
+    public int[] findMoveDistances(GridPosition target) throws GridPositionOutOfBoundsException {
+        if (!inBounds(target)) {
+            throw new GridPositionOutOfBoundsException(
+                    String.format("Target: %d, %d", target.getX(), target.getY()));
+        }
+        int sideLength = getSideLength();
+        int[] distances = new int[sideLength * sideLength];
+        Arrays.fill(distances, UNREACHABLE);
+        long[] reached = new long[sideLength];
+        long[] frontier = new long[sideLength];
+        frontier[target.getY()] = 1L << target.getX();
+        for (int distance = 0; frontier != null; distance++) {
+            boolean moved = false;
+            for (int y = 0; y < sideLength; y++) {
+                frontier[y] &= ~reached[y];
+                reached[y] |= frontier[y];
+                moved |= frontier[y] != 0;
+                for (long squares = frontier[y]; squares != 0; squares &= squares - 1) {
+                    distances[y * sideLength + Long.numberOfTrailingZeros(squares)] = distance;
+                }
+            }
+            frontier = moved ? stepFrontier(frontier) : null;
+        }
+        return distances;
+    }
+
+    // EFFECTS: returns squares reachable in one move from any square in frontier, as row bitsets
+    //          moves along rows use frontier as is, moves along columns use it flipped into column bitsets
+    private long[] stepFrontier(long[] frontier) {
+        int sideLength = frontier.length;
+        long[] next = new long[sideLength];
+        long[] columnFrontier = new long[sideLength];
+        for (int y = 0; y < sideLength; y++) {
+            next[y] |= findLineMoves(frontier[y], rowPassages[y]);
+            for (long squares = frontier[y]; squares != 0; squares &= squares - 1) {
+                columnFrontier[Long.numberOfTrailingZeros(squares)] |= 1L << y;
+            }
+        }
+        for (int x = 0; x < sideLength; x++) {
+            for (long moves = findLineMoves(columnFrontier[x], columnPassages[x]); moves != 0; moves &= moves - 1) {
+                next[Long.numberOfTrailingZeros(moves)] |= 1L << x;
+            }
+        }
+        return next;
+    }
+
+    // EFFECTS: returns squares on one line (row or column) reachable in one move along it from squares in from,
+    //          where passages are line's PASSAGE squares
+    //          a move can reach every passage in the unbroken run of passages it starts in,
+    //          and the nearest passage each way (past any walls)
+    private static long findLineMoves(long from, long passages) {
+        long runs = from;
+        long grown = (runs | (runs << 1) | (runs >>> 1)) & passages;
+        while (grown != runs) {
+            runs = grown;
+            grown = (runs | (runs << 1) | (runs >>> 1)) & passages;
+        }
+        long nearest = 0L;
+        for (long squares = from; squares != 0; squares &= squares - 1) {
+            int position = Long.numberOfTrailingZeros(squares);
+            nearest |= Long.lowestOneBit(passages & (-2L << position));
+            nearest |= Long.highestOneBit(passages & ((1L << position) - 1));
+        }
+        return runs | nearest;
+    }
+
+    // EFFECTS: returns union of bitset index entries for each line (row or column) set in lines
+    private static long lookUpLines(long lines, long[] index) {
+        long union = 0L;
+        for (long remaining = lines; remaining != 0; remaining &= remaining - 1) {
+            union |= index[Long.numberOfTrailingZeros(remaining)];
+        }
+        return union;
+    }
+
+    // EFFECTS: returns bit mask covering indices strictly between a and b
+    private static long spanMask(int a, int b) {
+        int low = Math.min(a, b) + 1;
+        int high = Math.max(a, b) - 1;
+        if (low > high) {
+            return 0L;
+        }
+        return ((1L << (high - low + 1)) - 1) << low;
+    }
+
+    // EFFECTS: returns true if masked span is all walls or all passages
+    private static boolean isSpanUniform(long walls, long passages, long mask) {
+        return (walls & mask) == mask || (passages & mask) == mask;
+    }
+
     // TODO: document exceptions
     public Grid<MazeSquare> getArea(GridPosition start, GridPosition end) {
         Grid<MazeSquare> subGrid = getSubGrid(start, end);
@@ -166,7 +390,7 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
         for (MazeSquare square : subGrid) {
             subGridList.add(square);
         }
-        return new GridArray<>(subGrid.getWidth(), subGrid.getHeight(), subGridList);
+        return new EnumGridArray<>(MazeSquare.class, subGrid.getWidth(), subGrid.getHeight(), subGridList);
     }
 
     // EFFECTS: returns maze layout's data in save file format (see Reader)
@@ -206,6 +430,17 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
         return saveData;
     }
 
+    // EFFECTS: returns maze layout packed one bit per square (bit set for WALL), in row-major order
+    //          bits are ordered as in BitSet.toByteArray, padded with 0 bits to a whole number of bytes
+    public byte[] getPackedLayout() {
+        int sideLength = getSideLength();
+        BitSet walls = new BitSet(sideLength * sideLength);
+        for (int i = 0; i < sideLength * sideLength; i++) {
+            walls.set(i, grid.get(i) == MazeSquare.WALL);
+        }
+        return Arrays.copyOf(walls.toByteArray(), Utilities.divideRoundUp(sideLength * sideLength, Byte.SIZE));
+    }
+
     // EFFECTS: return GridArray of SquareDisplayData to display the current layout
     public Grid<SquareDisplayData> display() {
         Grid<SquareDisplayData> displayData = new GridArray<>(getSideLength(), getSideLength());
@@ -291,8 +526,8 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
         List<GridPosition> positions = MazeSizeModel.getTimingPatternPositions();
         // build preset for timing pattern
         List<MazeSquare> pattern = buildTimingPattern(length);
-        overwrite(positions.get(0), new GridArray<>(1, length, pattern));
-        overwrite(positions.get(1), new GridArray<>(length, 1, pattern));
+        overwrite(positions.get(0), new EnumGridArray<>(MazeSquare.class, 1, length, pattern));
+        overwrite(positions.get(1), new EnumGridArray<>(MazeSquare.class, length, 1, pattern));
     }
 
     // REQUIRES: length is odd
@@ -319,79 +554,160 @@ public class MazeLayoutModel implements Iterable<MazeLayoutModel.MazeSquare> {
 
     // MODIFIES: this
     // EFFECTS: overwrites source layout on top of squares on this layout
-    // TODO: document GridPositionOutOfBoundsException
-    public void overwrite(GridPosition overwriteStart, Grid<MazeSquare> source) {
-        // subgrid setup
+    //          throws GridPositionOutOfBoundsException if source does not fit in layout at overwriteStart
+    public void overwrite(GridPosition overwriteStart, Grid<MazeSquare> source)
+            throws GridPositionOutOfBoundsException {
         GridPosition overwriteEnd = overwriteStart.add(
                 new GridPosition(source.getWidth() - 1, source.getHeight() - 1));
-        Grid<MazeSquare> target = getSubGrid(overwriteStart, overwriteEnd);
-        // iteration over source and target
-        GridIterator<MazeSquare> targetIterator = target.gridCellIterator();
-        GridIterator<MazeSquare> sourceIterator = source.gridCellIterator();
-        while (sourceIterator.hasNext()) {
-            MazeSquare sourceSquare = sourceIterator.next();
-//            MazeSquare targetSquare = targetIterator.next();
-            targetIterator.next();
-            targetIterator.set(sourceSquare);
-        }
-
-
-//        if (isInBounds(overwriteStart, overwriteEnd)) {
-//            for (int x = 0; x < other.getWidth(); x++) {
-//                for (int y = 0; y < other.getHeight(); y++) {
-//                    try {
-//                        grid.set(
-//                                overwriteStart.add(new GridPosition(x, y)),
-//                                other.getSquare(new GridPosition(x, y)));
-//                    } catch (GridPositionOutOfBoundsException e) {
-//                        throw new IncorrectGridIterationException(x, y);
-//                    }
-//                }
-//            }
-//        } else {
-//            throw new GridPositionOutOfBoundsException("out of bounds");
-//        }
+        if (!(inBounds(overwriteStart) && inBounds(overwriteEnd))) {
+            throw new GridPositionOutOfBoundsException(
+                    String.format("Overwrite from (%d, %d) to (%d, %d)",
+                            overwriteStart.getX(), overwriteStart.getY(), overwriteEnd.getX(), overwriteEnd.getY()));
+        }
+        for (int y = 0; y < source.getHeight(); y++) {
+            for (int x = 0; x < source.getWidth(); x++) {
+                setSquare(overwriteStart.getX() + x, overwriteStart.getY() + y, source.get(x, y));
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets square at given position, and updates bitset index to match
+    private void setSquare(int x, int y, MazeSquare square) throws GridPositionOutOfBoundsException {
+        grid.set(x, y, square);
+        long rowBit = 1L << x;
+        long columnBit = 1L << y;
+        rowWalls[y] &= ~rowBit;
+        rowPassages[y] &= ~rowBit;
+        columnWalls[x] &= ~columnBit;
+        columnPassages[x] &= ~columnBit;
+        if (square == MazeSquare.WALL) {
+            rowWalls[y] |= rowBit;
+            columnWalls[x] |= columnBit;
+        } else if (square == MazeSquare.PASSAGE) {
+            rowPassages[y] |= rowBit;
+            columnPassages[x] |= columnBit;
+        }
     }
 
     private Grid<MazeSquare> getSubGrid(GridPosition start, GridPosition end) {
         return grid.subGrid(start, end);
     }
 
-    // MODIFIES: this
+    // MODIFIES: this, random
     // EFFECTS: fills remaining EMPTY squares in maze layout with WALL or PASSAGE
-    //          random chance of either, based on PERCENT_WALL
-    // TODO: document exceptions
-    private void fillRemainingSquares() {
-        GridIterator<MazeSquare> gridIterator = grid.gridCellIterator();
-        while (gridIterator.hasNext()) {
-            MazeSquare mazeSquare = gridIterator.next();
-            if (mazeSquare == MazeSquare.EMPTY) {
-                if (Math.random() < PERCENT_WALL) {
-                    gridIterator.set(MazeSquare.WALL);
+    //          random chance of either (using given generator), based on PERCENT_WALL
+    //          EMPTY squares in each row are found from bitset index (not WALL or PASSAGE), and filled in
+    //          row-major order, so each square gets same random number as when every square was checked
+    private void fillRemainingSquares(SplittableRandom random) {
+        long rowMask = (1L << grid.getWidth()) - 1;
+        for (int y = 0; y < grid.getHeight(); y++) {
+            long emptySquares = ~(rowWalls[y] | rowPassages[y]) & rowMask;
+            while (emptySquares != 0) {
+                int x = Long.numberOfTrailingZeros(emptySquares);
+                emptySquares &= emptySquares - 1;
+                if (random.nextDouble() < PERCENT_WALL) {
+                    setSquare(x, y, MazeSquare.WALL);
                 } else {
-                    gridIterator.set(MazeSquare.PASSAGE);
+                    setSquare(x, y, MazeSquare.PASSAGE);
                 }
             }
         }
-//        for (int x = 0; x < grid.getWidth(); x++) {
-//            for (int y = 0; y < grid.getHeight(); y++) {
-//                if (grid.get(x, y) == MazeSquare.EMPTY) {
-//                    if (Math.random() < PERCENT_WALL) {
-//                        grid.set(x, y, MazeSquare.WALL);
-//                    } else {
-//                        grid.set(x, y, MazeSquare.PASSAGE);
-//                    }
-//                }
-//            }
-//        }
     }
 
     public Iterator<MazeSquare> iterator() {
         return grid.iterator();
     }
 
+    // EFFECTS: returns true if o is a maze layout of the same size with the same squares
+    //          uses grid's cached hash code to reject most non-equal layouts quickly
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MazeLayoutModel that = (MazeLayoutModel) o;
+        return size == that.size
+                && grid.equals(that.grid);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size.hashCode() + grid.hashCode();
+    }
+
+    // EFFECTS: returns cell iterator over layout, where set() keeps the bitset index in sync
     public GridIterator<MazeSquare> gridCellIterator() {
-        return grid.gridCellIterator();
+        return new LayoutCellIterator();
+    }
+
+    private class LayoutCellIterator implements GridIterator<MazeSquare> {
+        private int cursor = 0;
+        private int lastReturned = -1;
+
+        public boolean hasNext() {
+            return cursor < grid.getWidth() * grid.getHeight();
+        }
+
+        public MazeSquare next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            cursor++;
+            return grid.get(lastReturned);
+        }
+
+        public void set(MazeSquare element) throws IllegalStateException {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            setSquare(lastReturned % grid.getWidth(), lastReturned / grid.getWidth(), element);
+        }
+    }
+
+    // EFFECTS: returns saved layout (in list of string format) packed as in getPackedLayout, without building layout
+    //          accepts exactly the saved layouts that createMazeFromMazeContent accepts
+    //          throws InvalidMazeSaveDataException if layout has an invalid character or wrong number of squares
+    public static byte[] packSavedLayout(MazeSizeModel.MazeSize size, List<String> savedLayout)
+            throws InvalidMazeSaveDataException {
+        int sideLength = MazeSizeModel.getSideLength(size);
+        BitSet walls = new BitSet(sideLength * sideLength);
+        int index = 0;
+        for (String row : savedLayout) {
+            for (int i = 0; i < row.length(); i++, index++) {
+                char ch = row.charAt(i);
+                if (ch == Reader.SAVE_FILE_WALL) {
+                    walls.set(index);
+                } else if (ch != Reader.SAVE_FILE_PASSAGE) {
+                    throw new InvalidMazeSaveDataException(String.format("Invalid character: %s", ch));
+                }
+            }
+        }
+        if (index != sideLength * sideLength) {
+            throw new InvalidMazeSaveDataException(
+                    String.format("For data list size %d in %dx%d grid", index, sideLength, sideLength));
+        }
+        return Arrays.copyOf(walls.toByteArray(), Utilities.divideRoundUp(sideLength * sideLength, Byte.SIZE));
+    }
+
+    // REQUIRES: packedLayout is correct length for size
+    // EFFECTS: returns packed layout (see getPackedLayout) in save file format, without building layout
+    public static List<String> unpackToSaveData(MazeSizeModel.MazeSize size, byte[] packedLayout) {
+        int sideLength = MazeSizeModel.getSideLength(size);
+        BitSet walls = BitSet.valueOf(packedLayout);
+        List<String> saveData = new ArrayList<>();
+        for (int y = 0; y < sideLength; y++) {
+            StringBuilder saveDataRow = new StringBuilder(sideLength);
+            for (int x = 0; x < sideLength; x++) {
+                saveDataRow.append(walls.get(y * sideLength + x) ? Reader.SAVE_FILE_WALL : Reader.SAVE_FILE_PASSAGE);
+            }
+            saveData.add(saveDataRow.toString());
+        }
+        return saveData;
     }
 
     // REQUIRES: layout only consists of SAVE_FILE_WALL and SAVE_FILE_PASSAGE
@@ -1,19 +1,36 @@
 package model;
 
+import exceptions.InvalidMazeSaveDataException;
+import persistence.BinarySaveable;
+import persistence.BinaryWriter;
+import persistence.MazeLibrary;
 import persistence.Reader;
 import persistence.Saveable;
 
 import javax.swing.*;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-public class MazeListModel extends AbstractListModel implements Saveable {
+public class MazeListModel extends AbstractListModel<MazeModel> implements Saveable, BinarySaveable {
     List<MazeModel> mazes;
+    // mazes loaded from a MazeLibrary are parsed on first access, until then their slot in mazes is null
+    // libraryIndices holds each maze's index in library (NOT_IN_LIBRARY for mazes made after loading)
+    private MazeLibrary library = null;
+    private List<Integer> libraryIndices;
+
+    private static final Integer NOT_IN_LIBRARY = -1;
 
     // EFFECTS: construct new blank list of mazes
     public MazeListModel() {
         this.mazes = new ArrayList<>();
+        this.libraryIndices = new ArrayList<>();
     }
 
     // EFFECTS: construct new MazeListModel from given list of mazes
@@ -21,8 +38,18 @@ public class MazeListModel extends AbstractListModel implements Saveable {
     public MazeListModel(List<MazeModel> mazeModels) {
         if (mazeModels == null) {
             this.mazes = new ArrayList<>();
+        } else {
+            this.mazes = mazeModels;
         }
-        this.mazes = mazeModels;
+        this.libraryIndices = new ArrayList<>(Collections.nCopies(getSize(), NOT_IN_LIBRARY));
+    }
+
+    // EFFECTS: returns new MazeListModel with all mazes in given library
+    //          mazes are parsed from library when first accessed
+    public static MazeListModel createFromLibrary(MazeLibrary library) {
+        MazeListModel mazeList = new MazeListModel();
+        mazeList.setLibrary(library);
+        return mazeList;
     }
 
     // EFFECTS: return number of mazes in list
@@ -39,21 +66,82 @@ public class MazeListModel extends AbstractListModel implements Saveable {
 
     // MODIFIES: this
     // EFFECTS: creates a new random maze with given name and size and adds it at given index
+    //          maze is always solvable (see MazeModel.createSolvableMaze)
     public void createRandomMaze(int index, String name, MazeSizeModel.MazeSize size) {
-        mazes.add(index, new MazeModel(name, size));
+        mazes.add(index, MazeModel.createSolvableMaze(name, size));
+        libraryIndices.add(index, NOT_IN_LIBRARY);
         fireIntervalAdded(this, index, index);
     }
 
+    // MODIFIES: this
+    // EFFECTS: creates a new random maze of given size for each given name, and adds them to end of list in order
+    //          mazes are generated in parallel, each from its own seed, then added as one interval
+    public void createRandomMazes(List<String> names, MazeSizeModel.MazeSize size) {
+        createRandomMazes(names, size, new SplittableRandom().nextLong());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: creates a new random maze of given size for each given name, and adds them to end of list in order
+    //          each maze's seed is drawn from a generator seeded with batchSeed, so same batch seed and names
+    //          always make same mazes
+    //          mazes are always solvable (see MazeModel.createSolvableMaze)
+    //          mazes are generated in parallel, each from its own seed, then added as one interval
+    public void createRandomMazes(List<String> names, MazeSizeModel.MazeSize size, long batchSeed) {
+        SplittableRandom random = new SplittableRandom(batchSeed);
+        long[] mazeSeeds = new long[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            mazeSeeds[i] = random.nextLong();
+        }
+        List<MazeModel> newMazes = IntStream.range(0, names.size())
+                .parallel()
+                .mapToObj(i -> MazeModel.createSolvableMaze(names.get(i), size, mazeSeeds[i]))
+                .collect(Collectors.toList());
+        addMazes(newMazes);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds given mazes to end of list, as one interval
+    public void addMazes(List<MazeModel> newMazes) {
+        if (newMazes.isEmpty()) {
+            return;
+        }
+        int start = getSize();
+        mazes.addAll(newMazes);
+        libraryIndices.addAll(Collections.nCopies(newMazes.size(), NOT_IN_LIBRARY));
+        fireIntervalAdded(this, start, getSize() - 1);
+    }
+
     // EFFECTS: returns the maze at given list index
+    //          parses maze from library if it hasn't been accessed yet
+    //          throws IllegalStateException if library maze can't be parsed (library has already checked it,
+    //          so this means library file has been changed by something else)
     @Override
     public MazeModel getElementAt(int index) {
-        return mazes.get(index);
+        MazeModel maze = mazes.get(index);
+        if (maze == null) {
+            try {
+                maze = library.readMaze(libraryIndices.get(index));
+            } catch (InvalidMazeSaveDataException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            mazes.set(index, maze);
+        }
+        return maze;
     }
 
     // EFFECTS: replaces this list's data with new data
     public void updateMazeList(List<MazeModel> mazes) {
 //        int endIndex = Math.min(this.mazes.size(), mazes.size()) - 1;
         this.mazes = mazes;
+        this.library = null;
+        this.libraryIndices = new ArrayList<>(Collections.nCopies(mazes.size(), NOT_IN_LIBRARY));
+        fireContentsChanged(this, 0, mazes.size() - 1);
+    }
+
+    // EFFECTS: replaces this list's data with all mazes in given library
+    //          mazes are parsed from library when first accessed
+    public void updateMazeList(MazeLibrary library) {
+        setLibrary(library);
         fireContentsChanged(this, 0, mazes.size() - 1);
     }
 
@@ -61,23 +149,49 @@ public class MazeListModel extends AbstractListModel implements Saveable {
     // EFFECTS: deletes the maze at given list index
     public void deleteMaze(int index) {
         mazes.remove(index);
+        libraryIndices.remove(index);
         fireIntervalRemoved(this, index, index);
     }
 
     // EFFECTS: returns true if mazeList contains a maze with the same name
     public boolean containsSameName(String name) {
         for (int i = 0; i < mazes.size(); i++) {
-            if (mazes.get(i).getName().equals(name)) {
+            if (getName(i).equals(name)) {
                 return true;
             }
         }
         return false;
     }
 
+    // EFFECTS: returns index of given maze in list (same instance, not just same name), or -1 if it isn't in list
+    //          mazes not yet parsed from library can't have been played, so only parsed mazes are checked
+    public int indexOf(MazeModel maze) {
+        for (int i = 0; i < mazes.size(); i++) {
+            if (mazes.get(i) == maze) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers outcome to maze at given index, if it has given name
+    //          returns false if there is no such maze (i.e. index is out of range, or list has changed so another
+    //          maze is at that index), as names aren't unique and can't identify a maze on their own
+    public boolean registerOutcome(int index, String name, MazeModel.Outcome outcome) {
+        if (index < 0 || index >= getSize() || !getName(index).equals(name)) {
+            return false;
+        }
+        getElementAt(index).registerOutcome(outcome);
+        fireContentsChanged(this, index, index);
+        return true;
+    }
+
     // EFFECTS: formats save data from all mazes in list and sends to printWriter for saving
     @Override
     public void save(PrintWriter printWriter) {
-        for (MazeModel maze : mazes) {
+        for (int i = 0; i < getSize(); i++) {
+            MazeModel maze = getElementAt(i);
             printWriter.println(Reader.SEPARATOR_LINE);
             List<String> mazeData = null;
             mazeData = maze.getSaveData();
@@ -87,4 +201,44 @@ public class MazeListModel extends AbstractListModel implements Saveable {
         }
         printWriter.println(Reader.SEPARATOR_LINE);
     }
+
+    // EFFECTS: formats binary save data from all mazes in list and sends to dataOutputStream for saving
+    //          throws IOException if raised while writing
+    @Override
+    public void save(DataOutputStream dataOutputStream) throws IOException {
+        List<byte[]> records = getBinarySnapshot();
+        dataOutputStream.writeInt(records.size());
+        for (byte[] record : records) {
+            BinaryWriter.writeRecord(dataOutputStream, record);
+        }
+    }
+
+    // EFFECTS: returns binary save data records of all mazes in list (see BinaryReader)
+    //          records are copies, so they can be written out on another thread while this list keeps changing
+    //          library mazes that haven't been accessed can't have changed, so their records are copied unparsed
+    public List<byte[]> getBinarySnapshot() {
+        List<byte[]> records = new ArrayList<>(getSize());
+        for (int i = 0; i < getSize(); i++) {
+            MazeModel maze = mazes.get(i);
+            records.add(maze == null ? library.readRecord(libraryIndices.get(i)) : maze.getBinarySaveData());
+        }
+        return records;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces this list's data with unparsed slots for all mazes in given library
+    private void setLibrary(MazeLibrary library) {
+        this.library = library;
+        this.mazes = new ArrayList<>(Collections.nCopies(library.size(), (MazeModel) null));
+        this.libraryIndices = new ArrayList<>();
+        for (int i = 0; i < library.size(); i++) {
+            libraryIndices.add(i);
+        }
+    }
+
+    // EFFECTS: returns name of maze at given list index, without parsing maze from library
+    private String getName(int index) {
+        MazeModel maze = mazes.get(index);
+        return maze == null ? library.getName(libraryIndices.get(index)) : maze.getName();
+    }
 }
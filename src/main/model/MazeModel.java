@@ -5,20 +5,37 @@ import exceptions.InvalidMazeSaveDataException;
 import grid.Grid;
 import grid.GridPosition;
 import ui.SquareDisplayData;
+import utils.Utilities;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
 
 // represents game as maze level, stores layout and other maze data
 // allows verification of legal moves
 public class MazeModel {
+    // layout may be built lazily, on first use by a move or display method
+    // until then, mazeLayout is null and packedLayout holds layout (see MazeLayoutModel.getPackedLayout),
+    // or, if packedLayout is also null, layout is regenerated from layoutSeed
     private MazeLayoutModel mazeLayout;
+    private byte[] packedLayout;
+    // seed layout was generated from (see MazeLayoutModel.createRandomMaze), null if it wasn't generated from a seed
+    // layouts never change after construction, so seeded mazes are saved as their seed instead of their layout
+    private final Long layoutSeed;
+    private final MazeSizeModel.MazeSize size;
     private String name;
-    // using a list to allow other ways of parsing history (i.e. last 5 games, win streak, etc.)
-    private List<Outcome> pastGameOutcomes;
+    // bit-packed, with running totals, so recording games and reading totals / streaks doesn't scan history
+    private OutcomeHistory pastGameOutcomes;
+    // valid move endpoints, indexed by ((y * sideLength + x) * 4 + direction), null until first looked up
+    // layout never changes after construction, so entries never need invalidating
+    private List<List<GridPosition>> moveTable;
+    // move distances to treasure (see getTreasureDistances), null until first looked up
+    private int[] treasureDistances;
 
     enum Direction {
         UP,
@@ -34,12 +51,44 @@ public class MazeModel {
 
     private static final String WIN_LETTER = "W";
     private static final String LOSS_LETTER = "L";
-
-    // EFFECTS: Constructs random maze with given name and size
+    private static final GridPosition STEP_UP = new GridPosition(0, -1);
+    private static final GridPosition STEP_DOWN = new GridPosition(0, 1);
+    private static final GridPosition STEP_LEFT = new GridPosition(-1, 0);
+    private static final GridPosition STEP_RIGHT = new GridPosition(1, 0);
+    // Direction.values() copies its array on every call, so move table lookups use this instead
+    private static final int DIRECTION_COUNT = Direction.values().length;
+
+    // EFFECTS: Constructs random maze with given name and size, generated from a random seed
     public MazeModel(String name, MazeSizeModel.MazeSize size) {
+        this(name, size, new SplittableRandom().nextLong());
+    }
+
+    // EFFECTS: Constructs random maze with given name and size, generated from given seed
+    //          mazes of same size made with same seed always have same layout
+    public MazeModel(String name, MazeSizeModel.MazeSize size, long layoutSeed) {
         this.name = name;
-        this.mazeLayout = MazeLayoutModel.createRandomMaze(size);
-        this.pastGameOutcomes = new ArrayList<>();
+        this.size = size;
+        this.layoutSeed = layoutSeed;
+        this.mazeLayout = MazeLayoutModel.createRandomMaze(size, layoutSeed);
+        this.pastGameOutcomes = new OutcomeHistory();
+    }
+
+    // EFFECTS: returns random maze with given name and size, whose treasure can be reached from hero's start
+    public static MazeModel createSolvableMaze(String name, MazeSizeModel.MazeSize size) {
+        return createSolvableMaze(name, size, new SplittableRandom().nextLong());
+    }
+
+    // EFFECTS: returns random maze with given name and size, whose treasure can be reached from hero's start
+    //          layout seeds are drawn from a generator seeded with given seed until one makes a solvable layout,
+    //          so same size and seed always make same maze
+    //          accepted layout keeps its own seed, so maze is saved and regenerated like any other seeded maze
+    public static MazeModel createSolvableMaze(String name, MazeSizeModel.MazeSize size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        MazeModel maze;
+        do {
+            maze = new MazeModel(name, size, random.nextLong());
+        } while (!maze.isSolvable());
+        return maze;
     }
 
     //EFFECTS: Constructs maze with given name, size, game outcome history and layout data
@@ -47,11 +96,64 @@ public class MazeModel {
                      MazeSizeModel.MazeSize size,
                      List<String> savedOutcomeHistory,
                      List<String> savedLayout) throws InvalidMazeSaveDataException {
+        this(name, size, savedOutcomeHistory, savedLayout, false);
+    }
+
+    // EFFECTS: Constructs maze with given name, size, game outcome history and layout data
+    //          if lazyLayout is true, layout data is only checked and packed now, and layout is built on first use
+    //          (saves memory and time for mazes that are only listed, not played)
+    public MazeModel(String name,
+                     MazeSizeModel.MazeSize size,
+                     List<String> savedOutcomeHistory,
+                     List<String> savedLayout,
+                     boolean lazyLayout) throws InvalidMazeSaveDataException {
         this.name = name;
-        this.mazeLayout = MazeLayoutModel.createMazeFromMazeContent(size, savedLayout);
+        this.size = size;
+        this.layoutSeed = null;
+        if (lazyLayout) {
+            this.packedLayout = MazeLayoutModel.packSavedLayout(size, savedLayout);
+        } else {
+            this.mazeLayout = MazeLayoutModel.createMazeFromMazeContent(size, savedLayout);
+        }
         this.pastGameOutcomes = parseSavedOutcomes(savedOutcomeHistory);
     }
 
+    // EFFECTS: Constructs maze with given name, size, and packed game outcome history and layout data
+    //          (see getBinarySaveData)
+    //          layout is already packed, so it is kept as is, and built on first use
+    //          throws InvalidMazeSaveDataException if packed data is wrong length for total plays or size
+    public MazeModel(String name,
+                     MazeSizeModel.MazeSize size,
+                     int totalPlays,
+                     byte[] packedOutcomeHistory,
+                     byte[] packedLayout) throws InvalidMazeSaveDataException {
+        int sideLength = MazeSizeModel.getSideLength(size);
+        if (packedLayout.length != Utilities.divideRoundUp(sideLength * sideLength, Byte.SIZE)) {
+            throw new InvalidMazeSaveDataException(String.format("Packed layout has %d bytes, expected %d x %d squares",
+                    packedLayout.length, sideLength, sideLength));
+        }
+        this.name = name;
+        this.size = size;
+        this.layoutSeed = null;
+        this.packedLayout = packedLayout;
+        this.pastGameOutcomes = unpackOutcomes(totalPlays, packedOutcomeHistory);
+    }
+
+    // EFFECTS: Constructs maze with given name, size, packed game outcome history and layout seed
+    //          (see getBinarySaveData)
+    //          layout is regenerated from seed on first use
+    //          throws InvalidMazeSaveDataException if packed data is wrong length for total plays
+    public MazeModel(String name,
+                     MazeSizeModel.MazeSize size,
+                     int totalPlays,
+                     byte[] packedOutcomeHistory,
+                     long layoutSeed) throws InvalidMazeSaveDataException {
+        this.name = name;
+        this.size = size;
+        this.layoutSeed = layoutSeed;
+        this.pastGameOutcomes = unpackOutcomes(totalPlays, packedOutcomeHistory);
+    }
+
     // EFFECTS: returns name of maze
     public String getName() {
         return name;
@@ -59,22 +161,27 @@ public class MazeModel {
 
     // EFFECTS: returns name of maze's size
     public String getSizeName() {
-        return MazeSizeModel.getSizeName(mazeLayout.getSize());
+        return MazeSizeModel.getSizeName(size);
     }
 
     // EFFECTS: returns length of maze's sides
     public int getSideLength() {
-        return MazeSizeModel.getSideLength(mazeLayout.getSize());
+        return MazeSizeModel.getSideLength(size);
+    }
+
+    // EFFECTS: returns seed maze's layout was generated from, or null if layout wasn't generated from a seed
+    public Long getLayoutSeed() {
+        return layoutSeed;
     }
 
     // EFFECTS: returns number of wins on this maze
     public int getWins() {
-        return Collections.frequency(pastGameOutcomes, Outcome.WIN);
+        return pastGameOutcomes.getWins();
     }
 
     // EFFECTS: returns number of losses on this maze
     public int getLosses() {
-        return Collections.frequency(pastGameOutcomes, Outcome.LOSS);
+        return pastGameOutcomes.getLosses();
     }
 
     // EFFECTS: returns number of times this maze has been played
@@ -82,21 +189,72 @@ public class MazeModel {
         return pastGameOutcomes.size();
     }
 
+    // EFFECTS: returns outcomes of last n games on this maze, most recent game first
+    //          (fewer if there weren't n games)
+    public List<Outcome> getRecentOutcomes(int n) {
+        return pastGameOutcomes.getLast(n);
+    }
+
+    // EFFECTS: returns number of wins in last n games on this maze (all games if there weren't n games)
+    public int getRecentWins(int n) {
+        return pastGameOutcomes.getWinsInLast(n);
+    }
+
+    // EFFECTS: returns number of games in a row, ending with most recent game, with the same outcome
+    //          returns 0 if maze hasn't been played
+    public int getCurrentStreak() {
+        return pastGameOutcomes.getCurrentStreak();
+    }
+
+    // EFFECTS: returns outcome of current streak (i.e. of most recent game), or null if maze hasn't been played
+    public Outcome getCurrentStreakOutcome() {
+        return pastGameOutcomes.getCurrentStreakOutcome();
+    }
+
     // EFFECTS: returns position of treasure in maze layout
     //          located in top right corner passage of alignment pattern
     public GridPosition getTreasurePosition() {
-        return mazeLayout.getTreasurePosition();
+        return getLayout().getTreasurePosition();
+    }
+
+    // EFFECTS: returns hero's start position for this maze's size
+    public GridPosition getHeroStartPosition() {
+        return MazeSizeModel.getHeroStartPosition(size);
     }
 
     // EFFECTS: gets minotaur start position (PASSAGE square closest to center)
     //          uses breadth first search, starting from middle square
     public GridPosition getMinotaurStartPosition() {
-        return mazeLayout.getMinotaurStartPosition();
+        return getLayout().getMinotaurStartPosition();
     }
 
     // valid = entity can be there = is PASSAGE
     public boolean isPositionValid(GridPosition position) {
-        return mazeLayout.getSquare(position) == MazeLayoutModel.MazeSquare.PASSAGE;
+        return getLayout().getSquare(position) == MazeLayoutModel.MazeSquare.PASSAGE;
+    }
+
+    // EFFECTS: returns true if treasure can be reached from hero's start position (see MazeLayoutModel.isReachable)
+    public boolean isSolvable() {
+        return getLayout().isReachable(getHeroStartPosition(), getTreasurePosition());
+    }
+
+    // EFFECTS: returns number of moves needed to reach target from each square (by row-major index), ignoring
+    //          minotaur, or MazeLayoutModel.UNREACHABLE if target can't be reached from square
+    //          (see MazeLayoutModel.findMoveDistances)
+    //          throws GridPositionOutOfBoundsException if target is out of bounds
+    public int[] findMoveDistances(GridPosition target) throws GridPositionOutOfBoundsException {
+        return getLayout().findMoveDistances(target);
+    }
+
+    // EFFECTS: returns number of moves needed to reach treasure from each square (see findMoveDistances)
+    //          found on first call then kept, as layout never changes, so policies choosing a move every turn
+    //          don't search whole maze each time
+    //          result is shared, and must not be modified
+    public int[] getTreasureDistances() {
+        if (treasureDistances == null) {
+            treasureDistances = findMoveDistances(getTreasurePosition());
+        }
+        return treasureDistances;
     }
 
     // EFFECTS: returns true if move follows proper movement rules, false otherwise
@@ -104,117 +262,88 @@ public class MazeModel {
     public boolean isMoveValid(GridPosition start, GridPosition end) throws GridPositionOutOfBoundsException {
         boolean samePosition = start.equals(end);
         boolean orthogonal = areSquaresOrthogonal(start, end);
-        boolean endOnWall = mazeLayout.getSquare(end) == MazeLayoutModel.MazeSquare.WALL;
+        boolean endOnWall = getLayout().getSquare(end) == MazeLayoutModel.MazeSquare.WALL;
         if (samePosition || !orthogonal || endOnWall) {
             return false;
         } else {
-            return areAllTheseSquaresTheSame(getSquaresBetween(start, end));
+            return getLayout().areSquaresBetweenUniform(start, end);
         }
     }
 
-    // EFFECTS: returns list of squares between start and end (exclusive)
-    // TODO: document exceptions
-    private List<MazeLayoutModel.MazeSquare> getSquaresBetween(GridPosition start, GridPosition end)
-            throws GridPositionOutOfBoundsException, IllegalArgumentException {
-        // TODO: refactor to use MazeLayout subGrid and iteration
-        List<MazeLayoutModel.MazeSquare> betweenList = new ArrayList<>();
-        validateGetSquaresBetweenParams(start, end);
-
-        // test if start > end, if so, output needs reversing
-        if (end.getX() > start.getX() || end.getY() > start.getY()) { // no reverse needed
-            Grid<MazeLayoutModel.MazeSquare> area = mazeLayout.getArea(start, end);
-            for (MazeLayoutModel.MazeSquare square : area) {
-                betweenList.add(square);
-            }
-            betweenList.remove(betweenList.size() - 1);
-            betweenList.remove(0);
-        } else {
-            Grid<MazeLayoutModel.MazeSquare> area = mazeLayout.getArea(end, start);
-            for (MazeLayoutModel.MazeSquare square : area) {
-                betweenList.add(square);
-            }
-            Collections.reverse(betweenList);
-            betweenList.remove(betweenList.size() - 1);
-            betweenList.remove(0);
-        }
-
-//        int deltaX = end.getX() - start.getX();
-//        int deltaY = end.getY() - start.getY();
-//        if (deltaX == 0) {
-//            int sign = Integer.signum(deltaY);
-//            for (int i = start.getY() + sign; Math.abs(i - end.getY()) > 0; i += sign) {
-//                betweenList.add(getSquare(new GridPosition(start.getX(), i)));
-//            }
-//        } else {
-//            int sign = Integer.signum(deltaX);
-//            for (int i = start.getX() + sign; Math.abs(i - end.getX()) > 0; i += sign) {
-//                betweenList.add(getSquare(new GridPosition(i, start.getY())));
-//            }
-//        }
-
-        return betweenList;
-    }
-
-    private void validateGetSquaresBetweenParams(GridPosition start, GridPosition end)
-            throws GridPositionOutOfBoundsException, IllegalArgumentException {
-        if (!(mazeLayout.inBounds(start) && mazeLayout.inBounds(end))) {
+    // EFFECTS: returns list of valid move endpoints from given start position in given direction
+    //          endpoints are ordered by distance from start, nearest first
+    //          result is looked up in move table (built lazily), and must not be modified
+    //          throws GridPositionOutOfBoundsException if start is out of bounds
+    public List<GridPosition> getValidMoves(GridPosition start, Direction direction)
+            throws GridPositionOutOfBoundsException {
+        if (!getLayout().inBounds(start)) {
             throw new GridPositionOutOfBoundsException(
-                    String.format("Start: %d, %d, End: %d, %d",
-                            start.getX(), start.getY(), end.getX(), end.getY()));
+                    String.format("Start position: %d, %d", start.getX(), start.getY()));
+        }
+        if (moveTable == null) {
+            int tableSize = getSideLength() * getSideLength() * DIRECTION_COUNT;
+            moveTable = new ArrayList<>(Collections.nCopies(tableSize, null));
         }
-        if (start.equals(end)) {
-            throw new IllegalArgumentException(
-                    String.format("Start and end are same position: %d, %d",
-                            start.getX(), start.getY()));
+        int tableIndex = (start.getY() * getSideLength() + start.getX()) * DIRECTION_COUNT
+                + direction.ordinal();
+        List<GridPosition> validMoves = moveTable.get(tableIndex);
+        if (validMoves == null) {
+            validMoves = Collections.unmodifiableList(findValidMoves(start, direction));
+            moveTable.set(tableIndex, validMoves);
         }
-        if (!(start.getX() == end.getX() || start.getY() == end.getY())) {
-            throw new IllegalArgumentException(
-                    String.format("Start %d, %d > End: %d, %d",
-                            start.getX(), start.getY(), end.getX(), end.getY()));
+        return validMoves;
+    }
+
+    // EFFECTS: returns list of valid move endpoints from given start position in all directions
+    //          directions are in Direction order, endpoints in each direction are nearest first
+    //          throws GridPositionOutOfBoundsException if start is out of bounds
+    public List<GridPosition> getAllValidMoves(GridPosition start) throws GridPositionOutOfBoundsException {
+        List<GridPosition> allValidMoves = new ArrayList<>();
+        for (Direction direction : Direction.values()) {
+            allValidMoves.addAll(getValidMoves(start, direction));
         }
+        return allValidMoves;
     }
 
-    // EFFECTS: returns list of valid move endpoints from given start position in given direction
-    public List<GridPosition> getValidMoves(GridPosition start, Direction direction)
-            throws GridPositionOutOfBoundsException {
-        List<GridPosition> squaresInDirection = getPositionsInDirection(start, direction);
+    // EFFECTS: walks from start to edge of board in given direction, returning valid move endpoints
+    //          stops early once the squares passed over are no longer all the same type,
+    //          since no move past that point can be valid
+    private List<GridPosition> findValidMoves(GridPosition start, Direction direction) {
         List<GridPosition> validMoves = new ArrayList<>();
-        for (GridPosition possibleEnd : squaresInDirection) {
-            if (isMoveValid(start, possibleEnd)) {
+        GridPosition increment = getIncrement(direction);
+        GridPosition possibleEnd = start.add(increment);
+        MazeLayoutModel.MazeSquare passedOver = null;  // type of squares between start and possibleEnd
+        while (getLayout().inBounds(possibleEnd)) {
+            MazeLayoutModel.MazeSquare square = getLayout().getSquare(possibleEnd);
+            if (square != MazeLayoutModel.MazeSquare.WALL) {
                 validMoves.add(possibleEnd);
             }
+            if (passedOver == null) {
+                passedOver = square;
+            } else if (passedOver != square) {
+                break;
+            }
+            possibleEnd = possibleEnd.add(increment);
         }
         return validMoves;
     }
 
-    // EFFECTS: returns grid positions from start to edge of board in given direction
-    private List<GridPosition> getPositionsInDirection(GridPosition start, MazeModel.Direction direction)
-            throws GridPositionOutOfBoundsException {
-        if (!mazeLayout.inBounds(start)) {
-            throw new GridPositionOutOfBoundsException(
-                    String.format("Start position: %d, %d", start.getX(), start.getY()));
-        }
-        GridPosition increment;
-        List<GridPosition> squares = new ArrayList<>();
-        if (direction == MazeModel.Direction.UP) {
-            increment = new GridPosition(0, -1);
-        } else if (direction == MazeModel.Direction.DOWN) {
-            increment = new GridPosition(0, 1);
-        } else if (direction == MazeModel.Direction.LEFT) {
-            increment = new GridPosition(-1, 0);
+    // EFFECTS: returns one-square offset in given direction
+    private GridPosition getIncrement(Direction direction) {
+        if (direction == Direction.UP) {
+            return STEP_UP;
+        } else if (direction == Direction.DOWN) {
+            return STEP_DOWN;
+        } else if (direction == Direction.LEFT) {
+            return STEP_LEFT;
         } else {
-            increment = new GridPosition(1, 0);
-        }
-        GridPosition possibleEnd = start.add(increment);
-        while (mazeLayout.inBounds(possibleEnd)) {
-            squares.add(possibleEnd);
-            possibleEnd = possibleEnd.add(increment);
+            return STEP_RIGHT;
         }
-        return squares; //stub
     }
 
-    // TODO: document this
-    private List<Outcome> parseSavedOutcomes(List<String> savedOutcomeHistory) throws InvalidMazeSaveDataException {
+    // EFFECTS: returns outcome history parsed from saved history lines (most recent game first)
+    //          throws InvalidMazeSaveDataException if a line has a letter other than WIN_LETTER or LOSS_LETTER
+    private OutcomeHistory parseSavedOutcomes(List<String> savedOutcomeHistory) throws InvalidMazeSaveDataException {
         List<Outcome> outcomes = new ArrayList<>();
         for (String line : savedOutcomeHistory) {
             for (String letter : line.split("")) {
@@ -227,17 +356,24 @@ public class MazeModel {
                 }
             }
         }
-        return outcomes;
+        return OutcomeHistory.fromMostRecentFirst(outcomes);
     }
 
-    // EFFECTS: adds outcome of a game on this maze to start of outcomes list (most recent games first)
+    // MODIFIES: this
+    // EFFECTS: records outcome of a game on this maze as most recent game
     public void registerOutcome(Outcome outcome) {
-        pastGameOutcomes.add(0, outcome);
+        pastGameOutcomes.add(outcome);
     }
 
     // EFFECTS: return list of strings to display the current maze
     public Grid<SquareDisplayData> displayMaze() {
-        return mazeLayout.display();
+        return getLayout().display();
+    }
+
+    // EFFECTS: returns layout square at given position
+    //          throws GridPositionOutOfBoundsException if position is out of bounds
+    public MazeLayoutModel.MazeSquare getSquare(GridPosition position) throws GridPositionOutOfBoundsException {
+        return getLayout().getSquare(position);
     }
 
     // EFFECTS: returns maze's data in save file format (see Reader)
@@ -250,40 +386,82 @@ public class MazeModel {
         for (int i = 0; i * 100 < totalGameOnThisMaze; i++) {
             saveData.add(getPastGameOutcomeSaveData(i));
         }
-        saveData.addAll(mazeLayout.getSaveData());
+        if (mazeLayout == null && packedLayout != null) {
+            saveData.addAll(MazeLayoutModel.unpackToSaveData(size, packedLayout));
+        } else {
+            saveData.addAll(getLayout().getSaveData());  // text format has no seeds, so seeded layouts are written out
+        }
         return saveData;
     }
 
-    private boolean areSquaresOrthogonal(GridPosition start, GridPosition end) {
-        return start.getX() == end.getX() || start.getY() == end.getY();
+    // EFFECTS: returns maze's data in binary save file format (see BinaryReader)
+    //          seeded mazes are saved as their seed, others as their packed layout
+    public byte[] getBinarySaveData() {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+            dataOutputStream.writeUTF(name);
+            dataOutputStream.writeUTF(getSizeCode());
+            dataOutputStream.writeInt(getTotalPlays());
+            dataOutputStream.write(pastGameOutcomes.toPacked());
+            if (layoutSeed != null) {
+                dataOutputStream.writeByte(MazeLayoutModel.GENERATOR_VERSION);
+                dataOutputStream.writeLong(layoutSeed);
+            } else {
+                dataOutputStream.write(mazeLayout == null ? packedLayout : mazeLayout.getPackedLayout());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // can't happen, only writing to memory
+        }
+        return byteArrayOutputStream.toByteArray();
     }
 
-    // EFFECTS: returns true if all squares in list are the same type
-    private boolean areAllTheseSquaresTheSame(List<MazeLayoutModel.MazeSquare> squares) {
-        return squares.isEmpty() || Collections.frequency(squares, squares.get(0)) == squares.size();
+    // MODIFIES: this
+    // EFFECTS: returns maze layout, building it from packed layout or seed first if it hasn't been built yet
+    private MazeLayoutModel getLayout() {
+        if (mazeLayout == null && packedLayout == null) {
+            mazeLayout = MazeLayoutModel.createRandomMaze(size, layoutSeed);
+        } else if (mazeLayout == null) {
+            try {
+                mazeLayout = MazeLayoutModel.createMazeFromPackedLayout(size, packedLayout);
+            } catch (InvalidMazeSaveDataException e) {
+                // packed layout length was checked on construction, so this can't happen
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            packedLayout = null;
+        }
+        return mazeLayout;
+    }
+
+    private boolean areSquaresOrthogonal(GridPosition start, GridPosition end) {
+        return start.getX() == end.getX() || start.getY() == end.getY();
     }
 
     // EFFECTS: returns maze's size code
     private String getSizeCode() {
-        return MazeSizeModel.getSizeCode(mazeLayout.getSize());
+        return MazeSizeModel.getSizeCode(size);
     }
 
     // EFFECTS: returns a line of past game outcome history using given index
     //          each line is 100 games, sorted most recent game first
     private String getPastGameOutcomeSaveData(int lineIndex) {
         int start = lineIndex * 100;
-        int end = (lineIndex + 1) * 100;
-        if (end >= pastGameOutcomes.size()) {
-            end = pastGameOutcomes.size();
+        int end = Math.min((lineIndex + 1) * 100, pastGameOutcomes.size());
+        StringBuilder line = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            line.append(pastGameOutcomes.get(i) == Outcome.WIN ? WIN_LETTER : LOSS_LETTER);
+        }
+        return line.toString();
+    }
+
+    // EFFECTS: returns outcome history unpacked from packed outcome history (see OutcomeHistory.toPacked)
+    //          throws InvalidMazeSaveDataException if total plays is negative or doesn't match packed data length
+    private OutcomeHistory unpackOutcomes(int totalPlays, byte[] packedOutcomeHistory)
+            throws InvalidMazeSaveDataException {
+        if (totalPlays < 0 || packedOutcomeHistory.length != Utilities.divideRoundUp(totalPlays, Byte.SIZE)) {
+            throw new InvalidMazeSaveDataException(String.format(
+                    "Packed game history has %d bytes, expected %d games", packedOutcomeHistory.length, totalPlays));
         }
-        List<Outcome> subList = pastGameOutcomes.subList(start, end);
-        final Function<Outcome, String> outcomeToString;
-        outcomeToString = (Outcome outcome) -> outcome == Outcome.WIN
-                ? WIN_LETTER
-                : LOSS_LETTER;
-        return subList.stream()
-                .map(outcomeToString)
-                .collect(Collectors.joining(""));
+        return OutcomeHistory.fromPacked(totalPlays, packedOutcomeHistory);
     }
 
     // EFFECTS: returns string describing maze
@@ -143,7 +143,11 @@ public final class MazeSizeModel {
         return getAlignPatternPosition(size).add(new GridPosition(1, 1));
     }
 
-    // TODO: implement getStartPositions()
+    // EFFECTS: return hero's start position (top of margin between top-left and top-right finder patterns)
+    // TODO: implement choice of start positions
+    public static GridPosition getHeroStartPosition(MazeSize size) {
+        return new GridPosition(7, 0);
+    }
 
     // EFFECTS: returns QR version number of maze size
     private static int getVersion(MazeSize size) {
@@ -0,0 +1,264 @@
+package model;
+
+import grid.GridPosition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// finds shortest winning sequence of hero moves for a maze, by A* search over game states
+// game state is hero and minotaur positions (treasure never moves), with each hero move followed by minotaur's
+// response (see GameModel.findMinotaurMove), so states are always at start of hero's turn
+// minotaur's diagonal tie-break uses a fixed number (see GameModel.moveMinotaur(double)), so responses are
+// deterministic, and a game played with the same number follows solution exactly
+// search estimate is hero's distance to treasure with no minotaur (see MazeModel.findMoveDistances)
+//      estimate never overestimates, and changes by at most 1 per move, so first solution found is shortest
+//      a move changes a state's estimated total by 0, 1 or 2, so open states are kept in 3 stacks, one per total
+//      minotaur's response to a move is only worked out when its state is taken from a stack
+// states are packed into an int as (heroIndex * squares + minotaurIndex), using row-major square indices
+// searched states are kept in a bitset, and search nodes in int arrays, so search doesn't allocate per state
+public class MazeSolver {
+    public static final double DEFAULT_TIE_BREAK = 0.0;
+
+    private static final int NO_PARENT = -1;
+    private static final int UNKNOWN = -1;
+    private static final int ESTIMATE_CHANGES = 3;  // number of possible estimated totals of open states
+
+    private final MazeModel maze;
+    private final double tieBreak;
+    private final int sideLength;
+    private final int squares;
+    private final int treasure;
+
+    private int[] heroDistances;  // hero moves from each square to treasure with no minotaur
+    private long[] searched;
+    private IntStack[] open;
+    // search nodes: hero square, node it was reached from, and minotaur square (UNKNOWN until taken from open)
+    private int[] nodeHeroes;
+    private int[] nodeParents;
+    private int[] nodeMinotaurs;
+    private int[] nodeDepths;
+    private int nodeCount;
+    private int statesSearched;
+
+    // EFFECTS: construct solver for given maze, where minotaur uses DEFAULT_TIE_BREAK for diagonal decisions
+    public MazeSolver(MazeModel maze) {
+        this(maze, DEFAULT_TIE_BREAK);
+    }
+
+    // EFFECTS: construct solver for given maze, where minotaur uses given number for diagonal decisions
+    //          (horizontal if < 0.5, vertical otherwise)
+    public MazeSolver(MazeModel maze, double tieBreak) {
+        this.maze = maze;
+        this.tieBreak = tieBreak;
+        this.sideLength = maze.getSideLength();
+        this.squares = sideLength * sideLength;
+        this.treasure = indexOf(maze.getTreasurePosition());
+    }
+
+    // EFFECTS: returns shortest winning sequence of hero moves, starting from hero and minotaur start positions
+    //          returns unsolvable solution if every sequence of moves is caught by minotaur
+    public Solution solve() {
+        int heroStart = indexOf(maze.getHeroStartPosition());
+        if (heroStart == treasure) {
+            return new Solution(new ArrayList<>(), 0, 0);
+        }
+        heroDistances = maze.findMoveDistances(maze.getTreasurePosition());
+        if (heroDistances[heroStart] == MazeLayoutModel.UNREACHABLE) {
+            return new Solution(null, 0, 0);
+        }
+        startSearch(heroStart, indexOf(maze.getMinotaurStartPosition()));
+        int estimate = heroDistances[heroStart];
+        for (int emptyStacks = 0; emptyStacks < ESTIMATE_CHANGES; estimate++, emptyStacks++) {
+            IntStack stack = open[estimate % ESTIMATE_CHANGES];
+            while (!stack.isEmpty()) {
+                emptyStacks = 0;
+                int node = stack.pop();
+                if (takeState(node) && expand(node)) {
+                    return buildSolution(node);
+                }
+            }
+        }
+        return new Solution(null, 0, statesSearched);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: resets search, with start state (given hero and minotaur squares) as only open node
+    private void startSearch(int heroStart, int minotaurStart) {
+        searched = new long[(int) (((long) squares * squares + Long.SIZE - 1) / Long.SIZE)];
+        open = new IntStack[ESTIMATE_CHANGES];
+        for (int i = 0; i < ESTIMATE_CHANGES; i++) {
+            open[i] = new IntStack();
+        }
+        nodeHeroes = new int[squares];
+        nodeParents = new int[squares];
+        nodeMinotaurs = new int[squares];
+        nodeDepths = new int[squares];
+        nodeCount = 0;
+        statesSearched = 0;
+        int start = addNode(heroStart, NO_PARENT);
+        nodeMinotaurs[start] = minotaurStart;
+        open[heroDistances[heroStart] % ESTIMATE_CHANGES].push(start);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: works out minotaur's response to move that reached given node, and marks node's state as searched
+    //          returns false if minotaur catches hero, or state has already been searched
+    private boolean takeState(int node) {
+        if (nodeMinotaurs[node] == UNKNOWN) {
+            int minotaur = nodeMinotaurs[nodeParents[node]];
+            nodeMinotaurs[node] = respond(minotaur, nodeHeroes[node]);
+            if (nodeMinotaurs[node] == nodeHeroes[node]) {
+                return false;
+            }
+        }
+        int state = nodeHeroes[node] * squares + nodeMinotaurs[node];
+        if ((searched[state >>> 6] & (1L << state)) != 0) {
+            return false;
+        }
+        searched[state >>> 6] |= 1L << state;
+        statesSearched++;
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a node for each hero move from given node to open, with its estimated total
+    //          returns true (and stops) if a hero move reaches treasure
+    private boolean expand(int node) {
+        for (GridPosition move : maze.getAllValidMoves(positionOf(nodeHeroes[node]))) {
+            int hero = indexOf(move);
+            if (hero == treasure) {
+                return true;
+            }
+            int child = addNode(hero, node);
+            open[(nodeDepths[child] + heroDistances[hero]) % ESTIMATE_CHANGES].push(child);
+        }
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds search node for hero at given square, reached from given parent node, and returns its index
+    private int addNode(int hero, int parent) {
+        if (nodeCount == nodeHeroes.length) {
+            nodeHeroes = Arrays.copyOf(nodeHeroes, nodeCount * 2);
+            nodeParents = Arrays.copyOf(nodeParents, nodeCount * 2);
+            nodeMinotaurs = Arrays.copyOf(nodeMinotaurs, nodeCount * 2);
+            nodeDepths = Arrays.copyOf(nodeDepths, nodeCount * 2);
+        }
+        nodeHeroes[nodeCount] = hero;
+        nodeParents[nodeCount] = parent;
+        nodeMinotaurs[nodeCount] = UNKNOWN;
+        nodeDepths[nodeCount] = parent == NO_PARENT ? 0 : nodeDepths[parent] + 1;
+        return nodeCount++;
+    }
+
+    // EFFECTS: returns square minotaur at given square moves to when hero moves to given square
+    //          returns minotaur's current square if it has no possible moves
+    private int respond(int minotaur, int hero) {
+        GridPosition minotaurMove = GameModel.findMinotaurMove(maze, positionOf(minotaur), positionOf(hero), tieBreak);
+        return minotaurMove == null ? minotaur : indexOf(minotaurMove);
+    }
+
+    // EFFECTS: returns solution ending with move from given node onto treasure
+    //          follows parent links back to start node, rating each state on the way (see Solution.getDifficulty)
+    private Solution buildSolution(int last) {
+        List<GridPosition> moves = new ArrayList<>();
+        moves.add(positionOf(treasure));
+        int catchingMoves = 0;
+        int totalMoves = 0;
+        for (int node = last; node != NO_PARENT; node = nodeParents[node]) {
+            if (nodeParents[node] != NO_PARENT) {
+                moves.add(positionOf(nodeHeroes[node]));
+            }
+            catchingMoves += countCatchingMoves(node);
+            totalMoves += maze.getAllValidMoves(positionOf(nodeHeroes[node])).size();
+        }
+        Collections.reverse(moves);
+        return new Solution(moves, (double) catchingMoves / totalMoves, statesSearched);
+    }
+
+    // EFFECTS: returns number of hero moves from given node's state that minotaur responds to by catching hero
+    private int countCatchingMoves(int node) {
+        int catchingMoves = 0;
+        for (GridPosition move : maze.getAllValidMoves(positionOf(nodeHeroes[node]))) {
+            int hero = indexOf(move);
+            if (hero != treasure && respond(nodeMinotaurs[node], hero) == hero) {
+                catchingMoves++;
+            }
+        }
+        return catchingMoves;
+    }
+
+    private int indexOf(GridPosition position) {
+        return position.getY() * sideLength + position.getX();
+    }
+
+    private GridPosition positionOf(int index) {
+        return GridPosition.of(index % sideLength, index / sideLength);
+    }
+
+    // growable stack of ints, so open nodes aren't boxed
+    private static class IntStack {
+        private int[] elements = new int[16];
+        private int size = 0;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = element;
+        }
+
+        int pop() {
+            return elements[--size];
+        }
+    }
+
+    // result of solving a maze: shortest winning sequence of hero moves (if any), and how hard it is to find
+    public static class Solution {
+        private final List<GridPosition> moves;
+        private final double catchingMoveFraction;
+        private final int statesSearched;
+
+        // EFFECTS: construct solution with given moves (null if maze can't be won), fraction of hero moves
+        //          available along the way that get hero caught, and number of game states searched
+        private Solution(List<GridPosition> moves, double catchingMoveFraction, int statesSearched) {
+            this.moves = moves == null ? null : Collections.unmodifiableList(moves);
+            this.catchingMoveFraction = catchingMoveFraction;
+            this.statesSearched = statesSearched;
+        }
+
+        // EFFECTS: returns true if maze can be won
+        public boolean isSolvable() {
+            return moves != null;
+        }
+
+        // EFFECTS: returns hero move endpoints in order, last one is treasure position
+        //          returns empty list if maze can't be won
+        public List<GridPosition> getMoves() {
+            return moves == null ? Collections.emptyList() : moves;
+        }
+
+        // EFFECTS: returns number of hero moves in shortest win, or -1 if maze can't be won
+        public int getMoveCount() {
+            return moves == null ? -1 : moves.size();
+        }
+
+        // EFFECTS: returns difficulty score of maze: number of moves in shortest win, scaled up by fraction of
+        //          moves available along the way that get hero caught (so between 1x and 2x move count)
+        //          returns Double.POSITIVE_INFINITY if maze can't be won
+        public double getDifficulty() {
+            return moves == null ? Double.POSITIVE_INFINITY : moves.size() * (1 + catchingMoveFraction);
+        }
+
+        // EFFECTS: returns number of game states searched (taken from open, and expanded)
+        public int getStatesSearched() {
+            return statesSearched;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package model;
+
+import utils.Utilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// history of game outcomes on a maze, stored one bit per game (bit set for WIN)
+// games are stored oldest first, so recording a game is O(1) (amortized), while queries count back from most recent
+// win count and current streak are kept up to date as games are recorded, so reading them is O(1)
+public class OutcomeHistory {
+    private static final int INITIAL_WORDS = 1;
+
+    private long[] words;
+    private int size = 0;
+    private int wins = 0;
+    private int streakLength = 0;  // number of games in a row, ending with most recent, with same outcome
+
+    // EFFECTS: constructs empty history
+    public OutcomeHistory() {
+        this.words = new long[INITIAL_WORDS];
+    }
+
+    // EFFECTS: returns history of given outcomes, which are ordered most recent game first
+    public static OutcomeHistory fromMostRecentFirst(List<MazeModel.Outcome> outcomes) {
+        OutcomeHistory history = new OutcomeHistory();
+        history.ensureCapacity(outcomes.size());
+        for (int i = outcomes.size() - 1; i >= 0; i--) {
+            history.add(outcomes.get(i));
+        }
+        return history;
+    }
+
+    // REQUIRES: packed has at least totalPlays bits
+    // EFFECTS: returns history unpacked from packed outcomes (see toPacked)
+    public static OutcomeHistory fromPacked(int totalPlays, byte[] packed) {
+        OutcomeHistory history = new OutcomeHistory();
+        history.ensureCapacity(totalPlays);
+        BitSet packedWins = BitSet.valueOf(packed);
+        for (int i = totalPlays - 1; i >= 0; i--) {
+            history.add(packedWins.get(i) ? MazeModel.Outcome.WIN : MazeModel.Outcome.LOSS);
+        }
+        return history;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records outcome as most recent game
+    public void add(MazeModel.Outcome outcome) {
+        ensureCapacity(size + 1);
+        boolean win = outcome == MazeModel.Outcome.WIN;
+        if (win) {
+            words[size / Long.SIZE] |= 1L << (size % Long.SIZE);
+            wins++;
+        }
+        boolean continuesStreak = size > 0 && isWin(size - 1) == win;
+        streakLength = continuesStreak ? streakLength + 1 : 1;
+        size++;
+    }
+
+    // EFFECTS: returns total number of games
+    public int size() {
+        return size;
+    }
+
+    // EFFECTS: returns number of games won
+    public int getWins() {
+        return wins;
+    }
+
+    // EFFECTS: returns number of games lost
+    public int getLosses() {
+        return size - wins;
+    }
+
+    // EFFECTS: returns outcome of game that was given number of games ago (0 is most recent game)
+    //          throws IndexOutOfBoundsException if there weren't that many games
+    public MazeModel.Outcome get(int gamesAgo) throws IndexOutOfBoundsException {
+        if (gamesAgo < 0 || gamesAgo >= size) {
+            throw new IndexOutOfBoundsException(String.format("Games ago: %d, Size: %d", gamesAgo, size));
+        }
+        return isWin(size - 1 - gamesAgo) ? MazeModel.Outcome.WIN : MazeModel.Outcome.LOSS;
+    }
+
+    // EFFECTS: returns outcomes of last n games, most recent game first (fewer if there weren't n games)
+    public List<MazeModel.Outcome> getLast(int n) {
+        int count = Math.min(Math.max(n, 0), size);
+        List<MazeModel.Outcome> outcomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            outcomes.add(get(i));
+        }
+        return outcomes;
+    }
+
+    // EFFECTS: returns number of wins in last n games (all games if there weren't n games)
+    //          counts 64 games at a time, so takes O(n / 64) time
+    public int getWinsInLast(int n) {
+        int start = size - Math.min(Math.max(n, 0), size);
+        int count = 0;
+        for (int word = start / Long.SIZE; word * Long.SIZE < size; word++) {
+            long bits = words[word];
+            if (word == start / Long.SIZE) {
+                bits &= -1L << (start % Long.SIZE);  // drop games before start
+            }
+            count += Long.bitCount(bits);  // games after end are never set
+        }
+        return count;
+    }
+
+    // EFFECTS: returns number of games in a row, ending with most recent game, with the same outcome
+    //          returns 0 if no games have been played
+    public int getCurrentStreak() {
+        return streakLength;
+    }
+
+    // EFFECTS: returns outcome of current streak (i.e. of most recent game), or null if no games have been played
+    public MazeModel.Outcome getCurrentStreakOutcome() {
+        return size == 0 ? null : get(0);
+    }
+
+    // EFFECTS: returns outcomes packed one bit per game (bit set for WIN), most recent game first
+    //          bits are ordered as in BitSet.toByteArray, padded with 0 bits to a whole number of bytes
+    public byte[] toPacked() {
+        BitSet packedWins = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            packedWins.set(i, isWin(size - 1 - i));
+        }
+        return Arrays.copyOf(packedWins.toByteArray(), Utilities.divideRoundUp(size, Byte.SIZE));
+    }
+
+    // EFFECTS: returns true if game at given index (oldest first) was a win
+    private boolean isWin(int index) {
+        return (words[index / Long.SIZE] & (1L << (index % Long.SIZE))) != 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: grows storage (at least doubling) if needed so it can hold given number of games
+    private void ensureCapacity(int games) {
+        int wordsNeeded = Utilities.divideRoundUp(games, Long.SIZE);
+        if (wordsNeeded > words.length) {
+            words = Arrays.copyOf(words, Math.max(wordsNeeded, words.length * 2));
+        }
+    }
+}
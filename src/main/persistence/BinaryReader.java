@@ -0,0 +1,197 @@
+package persistence;
+
+import exceptions.InvalidMazeSaveDataException;
+import model.MazeLayoutModel;
+import model.MazeModel;
+import model.MazeSizeModel;
+import utils.Utilities;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+// binary save format counterpart of Reader, roughly 8x smaller than the text format
+// all numbers are big-endian, strings use DataOutputStream.writeUTF (2 byte length prefix, then modified UTF-8)
+//      1. header: MAGIC_NUMBER (4 bytes), FORMAT_VERSION (1 byte)
+//      2. number of mazes (4 bytes)
+//      3. one record per maze: record length (4 bytes), record, CRC32 checksum of record (4 bytes)
+// each maze record contains:
+//      1. maze name (string)
+//      2. maze size code (string)
+//      3. total games played (4 bytes)
+//      4. game history: 1 bit per game played (set for WIN), most recent game first
+//      5. maze data, either:
+//          - layout: 1 bit per maze square (set for WALL), in row-major order
+//          - seed (mazes generated from a seed, since version 2): generator version (1 byte), seed (8 bytes)
+//          packed layouts are always longer than SEED_LENGTH, so record length tells which one is used
+//          bits in 4 and 5 are ordered as in BitSet.toByteArray, each padded to a whole number of bytes
+// version 1 files only have layouts, so their records are also valid version 2 records
+public class BinaryReader {
+    private BinaryReader() {}
+
+    public static final int MAGIC_NUMBER = 0x4D515242;  // "MQRB"
+    public static final byte FORMAT_VERSION = 2;
+    public static final int SEED_LENGTH = 1 + Long.BYTES;
+
+    private static final String TRASH_FILE_PATH_NAME = "./data/dump/corruptedSaveTrash.txt";
+    private static final int MAX_RECORD_LENGTH = 1 << 24;  // anything longer must be corrupted data
+
+    // EFFECTS: returns true if file starts with binary save file MAGIC_NUMBER
+    //          throws IOException if raised while opening / reading from file
+    public static boolean isBinarySaveFile(File file) throws IOException {
+        try (DataInputStream dataInputStream = new DataInputStream(new FileInputStream(file))) {
+            return dataInputStream.readInt() == MAGIC_NUMBER;
+        } catch (EOFException e) {
+            return false;  // too short to have header
+        }
+    }
+
+    // EFFECTS: returns list of mazes read from binary save file
+    //          throws IOException if raised while opening / reading from file,
+    //          or if file isn't a binary save file of a supported version
+    public static List<MazeModel> readMazeList(File file) throws IOException {
+        return readMazeList(file, TRASH_FILE_PATH_NAME);
+    }
+
+    // EFFECTS: returns list of mazes read from binary save file
+    //          given file path determines where invalid maze save data is trashed
+    //          if file ends part way through, returns mazes read up to that point
+    //          throws IOException if raised while opening / reading from file,
+    //          or if file isn't a binary save file of a supported version
+    public static List<MazeModel> readMazeList(File file, String trashFilePath) throws IOException {
+        try (DataInputStream dataInputStream = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            checkHeader(dataInputStream, file);
+            return readMazes(dataInputStream, dataInputStream.readInt(), trashFilePath);
+        }
+    }
+
+    // EFFECTS: reads given number of maze records, returns mazes parsed from valid records
+    //          invalid records are trashed, and reading stops early if file ends part way through
+    private static List<MazeModel> readMazes(DataInputStream dataInputStream, int mazeCount, String trashFilePath)
+            throws IOException {
+        List<MazeModel> mazes = new ArrayList<>();
+        for (int i = 0; i < mazeCount; i++) {
+            byte[] record;
+            int checksum;
+            try {
+                record = readRecord(dataInputStream);
+                checksum = dataInputStream.readInt();
+            } catch (EOFException e) {
+                System.out.printf("Save file ended early, %d of %d mazes read\n", i, mazeCount);
+                break;
+            }
+            try {
+                mazes.add(parseMaze(record, checksum));
+            } catch (InvalidMazeSaveDataException e) {
+                List<String> trash = Collections.singletonList(Base64.getEncoder().encodeToString(record));
+                Reader.trashBadSaveFile(trash, e.getMessage(), trashFilePath);
+            }
+        }
+        return mazes;
+    }
+
+    // EFFECTS: throws IOException if file doesn't start with binary save file header of a supported version
+    private static void checkHeader(DataInputStream dataInputStream, File file) throws IOException {
+        if (dataInputStream.readInt() != MAGIC_NUMBER) {
+            throw new IOException(String.format("File %s is not a binary save file", file.getPath()));
+        }
+        byte version = dataInputStream.readByte();
+        if (version > FORMAT_VERSION) {
+            throw new IOException(String.format("File %s has unsupported save format version %d", file.getPath(),
+                    version));
+        }
+    }
+
+    // EFFECTS: returns next record (without length or checksum)
+    //          throws EOFException if file ends before record is complete, or record length is impossible
+    //          (an impossible length means nothing after it can be trusted, same as the file ending)
+    static byte[] readRecord(DataInputStream dataInputStream) throws IOException {
+        int length = dataInputStream.readInt();
+        if (length < 0 || length > MAX_RECORD_LENGTH) {
+            throw new EOFException(String.format("Impossible record length %d", length));
+        }
+        byte[] record = new byte[length];
+        dataInputStream.readFully(record);
+        return record;
+    }
+
+    // EFFECTS: parses maze record based on binary save file format to make saved maze
+    //          throws InvalidMazeSaveDataException if checksum doesn't match or data does not follow format
+    private static MazeModel parseMaze(byte[] record, int checksum) throws InvalidMazeSaveDataException {
+        if (BinaryWriter.checksum(record) != checksum) {
+            throw new InvalidMazeSaveDataException("Maze save data checksum does not match");
+        }
+        return parseRecord(record);
+    }
+
+    // EFFECTS: parses maze record (already checked against its checksum) to make saved maze
+    //          throws InvalidMazeSaveDataException if data does not follow format
+    static MazeModel parseRecord(byte[] record) throws InvalidMazeSaveDataException {
+        DataInputStream recordStream = new DataInputStream(new ByteArrayInputStream(record));
+        try {
+            String name = recordStream.readUTF();
+            MazeSizeModel.MazeSize size = Reader.checkSizeCode(name, recordStream.readUTF());
+            int totalPlays = recordStream.readInt();
+            if (totalPlays < 0) {
+                throw new InvalidMazeSaveDataException(
+                        String.format("Maze %s save data has negative number of plays", name));
+            }
+            byte[] packedOutcomeHistory = readBytes(recordStream, Utilities.divideRoundUp(totalPlays, Byte.SIZE));
+            if (recordStream.available() == SEED_LENGTH) {
+                return new MazeModel(name, size, totalPlays, packedOutcomeHistory, readSeed(recordStream, name));
+            }
+            int sideLength = MazeSizeModel.getSideLength(size);
+            byte[] packedLayout = readBytes(recordStream, Utilities.divideRoundUp(sideLength * sideLength, Byte.SIZE));
+            if (recordStream.available() > 0) {
+                throw new InvalidMazeSaveDataException(
+                        String.format("Maze %s save data is larger than expected", name));
+            }
+            return new MazeModel(name, size, totalPlays, packedOutcomeHistory, packedLayout);
+        } catch (IOException e) {
+            throw new InvalidMazeSaveDataException("Maze save data is smaller than expected or has invalid text", e);
+        }
+    }
+
+    // EFFECTS: returns layout seed from end of maze record
+    //          throws InvalidMazeSaveDataException if seed is for a generator version this app doesn't have
+    //          throws IOException if record ends early
+    private static long readSeed(DataInputStream recordStream, String name)
+            throws IOException, InvalidMazeSaveDataException {
+        byte generatorVersion = recordStream.readByte();
+        if (generatorVersion != MazeLayoutModel.GENERATOR_VERSION) {
+            throw new InvalidMazeSaveDataException(String.format(
+                    "Maze %s save data has seed for unknown generator version %d", name, generatorVersion));
+        }
+        return recordStream.readLong();
+    }
+
+    // EFFECTS: returns maze name from start of maze record
+    //          throws InvalidMazeSaveDataException if record doesn't start with a valid name
+    static String parseName(byte[] record) throws InvalidMazeSaveDataException {
+        try {
+            return new DataInputStream(new ByteArrayInputStream(record)).readUTF();
+        } catch (IOException e) {
+            throw new InvalidMazeSaveDataException("Maze save data name is missing or has invalid text", e);
+        }
+    }
+
+    // EFFECTS: returns next count bytes from record
+    //          throws IOException if record has fewer than count bytes left
+    private static byte[] readBytes(DataInputStream recordStream, int count) throws IOException {
+        if (count > recordStream.available()) {
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[count];
+        recordStream.readFully(bytes);
+        return bytes;
+    }
+}
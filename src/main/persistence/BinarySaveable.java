@@ -0,0 +1,12 @@
+package persistence;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+// binary save format counterpart of Saveable (see BinaryReader for format)
+public interface BinarySaveable {
+    // MODIFIES: dataOutputStream
+    // EFFECTS: writes the saveable to dataOutputStream
+    //          throws IOException if raised while writing
+    void save(DataOutputStream dataOutputStream) throws IOException;
+}
@@ -0,0 +1,168 @@
+package persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+// binary save format counterpart of Writer (see BinaryReader for format)
+// data is written to a temporary file, which commit syncs to disk and then atomically renames over the target,
+// so a crash part way through a save leaves the old file in place, never a half written one,
+// and a MazeLibrary open on the target file stays readable (it only maps files where that is allowed, see MazeLibrary)
+// use in try-with-resources: closing a writer that wasn't committed aborts it, deleting the temporary file
+public class BinaryWriter implements AutoCloseable {
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final File file;
+    private final File tempFile;
+    private final FileOutputStream fileOutputStream;
+    private final CheckedOutputStream checkedOutputStream;
+    private DataOutputStream dataOutputStream;
+    private boolean streamClosed = false;
+    private boolean committed = false;
+
+    // EFFECTS: constructs a writer that will write data to file, and writes binary save file header
+    //          throws IOException if file can't be opened or written to (temporary file is deleted)
+    public BinaryWriter(File file) throws IOException {
+        this.file = file;
+        this.tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        fileOutputStream = new FileOutputStream(tempFile);
+        checkedOutputStream = new CheckedOutputStream(new BufferedOutputStream(fileOutputStream), new CRC32());
+        dataOutputStream = new DataOutputStream(checkedOutputStream);
+        try {
+            dataOutputStream.writeInt(BinaryReader.MAGIC_NUMBER);
+            dataOutputStream.writeByte(BinaryReader.FORMAT_VERSION);
+        } catch (IOException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes saveable to file
+    //          throws IOException if raised while writing
+    public void write(BinarySaveable saveable) throws IOException {
+        saveable.save(dataOutputStream);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: syncs written data to disk and closes output stream, then atomically replaces file with written data
+    //          and syncs file's directory, so the rename itself survives a crash
+    //          falls back to a plain replace if file system can't move atomically
+    //          throws IOException if buffered data can't be written, or file can't be replaced
+    //          (writer is then aborted, and file is left as it was), or directory can't be synced
+    // NOTE: MUST be called when you are done writing data, or nothing is saved!
+    public void commit() throws IOException {
+        try {
+            dataOutputStream.flush();
+            fileOutputStream.getFD().sync();
+            closeStream();
+            moveFile(tempFile.toPath(), file.toPath());
+            committed = true;
+            syncDirectory(file.toPath().toAbsolutePath().getParent());
+        } finally {
+            if (!committed) {
+                abort();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if writer hasn't been committed, closes output stream and deletes temporary file, leaving file as it was
+    //          throws IOException if stream can't be closed or temporary file can't be deleted
+    public void abort() throws IOException {
+        if (committed) {
+            return;
+        }
+        try {
+            closeStream();
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: aborts writer if it hasn't been committed (see abort), does nothing if it has
+    @Override
+    public void close() throws IOException {
+        abort();
+    }
+
+    // EFFECTS: returns CRC32 checksum (lower 32 bits) of everything written to file so far
+    //          once all data is written, this matches OutcomeJournal.checksumFile for the saved file, even before
+    //          commit (so journal can be told which file is about to replace the old one)
+    public int getFileChecksum() {
+        return (int) checkedOutputStream.getChecksum().getValue();
+    }
+
+    // MODIFIES: dataOutputStream
+    // EFFECTS: writes record to dataOutputStream, framed with its length and CRC32 checksum
+    //          throws IOException if raised while writing
+    public static void writeRecord(DataOutputStream dataOutputStream, byte[] record) throws IOException {
+        dataOutputStream.writeInt(record.length);
+        dataOutputStream.write(record);
+        dataOutputStream.writeInt(checksum(record));
+    }
+
+    // MODIFIES: target
+    // EFFECTS: atomically moves source over target, falling back to a plain replace if file system can't,
+    //          then syncs target's directory, so rename is on disk before this returns
+    //          throws IOException if target can't be replaced
+    static void replaceFile(Path source, Path target) throws IOException {
+        moveFile(source, target);
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    // MODIFIES: target
+    // EFFECTS: atomically moves source over target, falling back to a plain replace if file system can't
+    //          throws IOException if target can't be replaced
+    private static void moveFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // EFFECTS: syncs given directory's entries to disk
+    //          some platforms (i.e. Windows) can't open a directory as a channel, and sync renames on their own,
+    //          so directory is skipped there
+    //          throws IOException if directory is opened but can't be synced
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (FileChannel directoryChannel = channel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes output stream, if it isn't already closed
+    //          throws IOException if raised while closing
+    private void closeStream() throws IOException {
+        if (!streamClosed) {
+            streamClosed = true;
+            dataOutputStream.close();
+        }
+    }
+
+    // EFFECTS: returns CRC32 checksum of record (lower 32 bits)
+    static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+        return (int) crc.getValue();
+    }
+}
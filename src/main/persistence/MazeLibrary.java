@@ -0,0 +1,195 @@
+package persistence;
+
+import exceptions.InvalidMazeSaveDataException;
+import model.MazeModel;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+// read-only, random access view of a binary save file (see BinaryReader for format)
+// file is memory-mapped and indexed when opened: each record's checksum is checked and its name is read,
+// but no maze is parsed until it is asked for, so opening is much cheaper than BinaryReader.readMazeList
+// invalid records are trashed when opened, and left out of the index
+// saves replace the library's file while it is open (see BinaryWriter): POSIX file systems allow renaming over
+// a mapped file, and the mapping keeps showing the old contents, but Windows refuses to replace a mapped file
+// so file is only mapped where file system is POSIX, elsewhere it is read into memory when opened instead
+// (mazes are still only parsed when asked for)
+// NOTE: files over 2GB can't be mapped (or read) in one piece, and aren't supported
+public class MazeLibrary {
+    private static final String TRASH_FILE_PATH_NAME = "./data/dump/corruptedSaveTrash.txt";
+    private static final int NAME_LENGTH_BYTES = 2;  // writeUTF length prefix
+    private static final boolean CAN_MAP_FILES = FileSystems.getDefault().supportedFileAttributeViews()
+            .contains("posix");
+
+    private final ByteBuffer buffer;
+    private final List<Integer> recordOffsets = new ArrayList<>();  // start of each record (after its length)
+    private final List<Integer> recordLengths = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> nameIndex = new HashMap<>();  // name -> index of first maze with name
+
+    private MazeLibrary(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    // EFFECTS: opens and indexes given binary save file
+    //          throws IOException if raised while opening / reading from file,
+    //          or if file isn't a binary save file of a supported version
+    public static MazeLibrary open(File file) throws IOException {
+        return open(file, TRASH_FILE_PATH_NAME);
+    }
+
+    // EFFECTS: opens and indexes given binary save file
+    //          given file path determines where invalid maze save data is trashed
+    //          throws IOException if raised while opening / reading from file,
+    //          or if file isn't a binary save file of a supported version
+    public static MazeLibrary open(File file, String trashFilePath) throws IOException {
+        return open(file, trashFilePath, CAN_MAP_FILES);
+    }
+
+    // EFFECTS: opens and indexes given binary save file, mapping it if mapFile is true, reading it into memory if not
+    //          given file path determines where invalid maze save data is trashed
+    //          throws IOException if raised while opening / reading from file,
+    //          or if file isn't a binary save file of a supported version
+    static MazeLibrary open(File file, String trashFilePath, boolean mapFile) throws IOException {
+        MazeLibrary library = new MazeLibrary(readFile(file, mapFile));
+        library.buildIndex(file, trashFilePath);
+        return library;
+    }
+
+    // EFFECTS: returns given file's contents, mapped if mapFile is true, read into memory if not
+    //          throws IOException if raised while opening / reading from file
+    private static ByteBuffer readFile(File file, boolean mapFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (mapFile) {
+                // mapping stays valid after channel is closed
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            ByteBuffer contents = ByteBuffer.allocate((int) channel.size());
+            while (contents.hasRemaining()) {
+                if (channel.read(contents) < 0) {
+                    throw new EOFException(String.format("File %s ended while being read", file.getPath()));
+                }
+            }
+            contents.flip();
+            return contents;
+        }
+    }
+
+    // EFFECTS: returns number of mazes in library
+    public int size() {
+        return names.size();
+    }
+
+    // EFFECTS: returns name of maze at given index, without parsing maze
+    public String getName(int index) {
+        return names.get(index);
+    }
+
+    // EFFECTS: returns index of first maze with given name, or -1 if there is none
+    public int indexOf(String name) {
+        return nameIndex.getOrDefault(name, -1);
+    }
+
+    // EFFECTS: returns maze at given index, parsed from its record
+    //          throws InvalidMazeSaveDataException if record does not follow format
+    public MazeModel readMaze(int index) throws InvalidMazeSaveDataException {
+        return BinaryReader.parseRecord(readRecord(index));
+    }
+
+    // EFFECTS: returns copy of record for maze at given index (checksum was checked when library was opened)
+    //          lets unchanged mazes be saved again without parsing them
+    public byte[] readRecord(int index) {
+        byte[] record = new byte[recordLengths.get(index)];
+        ByteBuffer recordBuffer = buffer.duplicate();
+        recordBuffer.position(recordOffsets.get(index));
+        recordBuffer.get(record);
+        return record;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads header, then adds each valid record to index
+    //          invalid records are trashed, and indexing stops early if file ends part way through
+    private void buildIndex(File file, String trashFilePath) throws IOException {
+        ByteBuffer reader = buffer.duplicate();
+        if (reader.remaining() < Integer.BYTES + 1 || reader.getInt() != BinaryReader.MAGIC_NUMBER) {
+            throw new IOException(String.format("File %s is not a binary save file", file.getPath()));
+        }
+        byte version = reader.get();
+        if (version > BinaryReader.FORMAT_VERSION) {
+            throw new IOException(String.format("File %s has unsupported save format version %d", file.getPath(),
+                    version));
+        }
+        int mazeCount = reader.remaining() < Integer.BYTES ? 0 : reader.getInt();
+        for (int i = 0; i < mazeCount; i++) {
+            if (!indexNextRecord(reader, trashFilePath)) {
+                System.out.printf("Save file ended early, %d of %d mazes indexed\n", size(), mazeCount);
+                break;
+            }
+        }
+    }
+
+    // MODIFIES: this, reader
+    // EFFECTS: reads record at reader's position, adding it to index if valid and trashing it if not
+    //          returns false if file ends before record is complete, or record length is impossible
+    private boolean indexNextRecord(ByteBuffer reader, String trashFilePath) {
+        if (reader.remaining() < Integer.BYTES) {
+            return false;
+        }
+        int length = reader.getInt();
+        if (length < 0 || length > reader.remaining() - Integer.BYTES) {
+            return false;
+        }
+        int offset = reader.position();
+        ByteBuffer record = reader.slice();
+        record.limit(length);
+        reader.position(offset + length);
+        int checksum = reader.getInt();
+        try {
+            String name = readName(record, checksum);
+            nameIndex.putIfAbsent(name, names.size());
+            names.add(name);
+            recordOffsets.add(offset);
+            recordLengths.add(length);
+        } catch (InvalidMazeSaveDataException e) {
+            trashRecord(record, e.getMessage(), trashFilePath);
+        }
+        return true;
+    }
+
+    // EFFECTS: sends record to trash file (Base64 encoded, as trash file is text)
+    private static void trashRecord(ByteBuffer record, String exceptionMessage, String trashFilePath) {
+        byte[] recordBytes = new byte[record.remaining()];
+        record.duplicate().get(recordBytes);
+        List<String> trash = Collections.singletonList(Base64.getEncoder().encodeToString(recordBytes));
+        Reader.trashBadSaveFile(trash, exceptionMessage, trashFilePath);
+    }
+
+    // EFFECTS: returns maze name from start of record, without moving record's position
+    //          throws InvalidMazeSaveDataException if checksum doesn't match or record doesn't start with a name
+    private static String readName(ByteBuffer record, int checksum) throws InvalidMazeSaveDataException {
+        CRC32 crc = new CRC32();
+        crc.update(record.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new InvalidMazeSaveDataException("Maze save data checksum does not match");
+        }
+        if (record.remaining() < NAME_LENGTH_BYTES) {
+            throw new InvalidMazeSaveDataException("Maze save data name is missing");
+        }
+        int nameLength = NAME_LENGTH_BYTES + Short.toUnsignedInt(record.getShort(0));
+        byte[] nameBytes = new byte[Math.min(nameLength, record.remaining())];
+        record.duplicate().get(nameBytes);
+        return BinaryReader.parseName(nameBytes);
+    }
+}
@@ -0,0 +1,277 @@
+package persistence;
+
+import model.MazeListModel;
+import model.MazeModel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// append-only log of game outcomes recorded since the save file was last written
+// recording a game appends (and syncs) one small entry, instead of rewriting every maze in the save file
+// the save file is rewritten now and then, and then the journal is compacted (entries now in save file are dropped)
+// all numbers are big-endian, strings use DataOutputStream.writeUTF
+//      1. header: MAGIC_NUMBER (4 bytes), FORMAT_VERSION (1 byte)
+//      2. CRC32 checksum of save file journal follows (4 bytes)
+//      3. pending save: CRC32 checksum of save file being written (4 bytes), and number of entries it holds
+//         (4 bytes, NO_PENDING_SAVE if no save is being written)
+//      4. one entry per game: entry length (4 bytes), entry, CRC32 checksum of entry (4 bytes)
+// each entry contains maze's index in save file (4 bytes), maze name (string), then outcome (1 byte, Outcome ordinal)
+//      names aren't unique, so entries are replayed onto maze at their index; name is only a check that index
+//      still refers to same maze, and entries whose name doesn't match are skipped
+//      indices are only valid while no mazes have been created or deleted since save file was written,
+//      so outcomes on a changed list mustn't be journaled (save file must be rewritten instead)
+// a journal is only replayed onto the save file it follows, or the save file it marks as pending
+// prepareForSave marks a save as pending before it replaces the save file, so if the app stops after the save file
+// is replaced but before the journal is compacted, the entries after the ones the save holds (games played while
+// it was written) are still replayed onto it
+// if neither checksum matches, the journal is dropped
+// a partly written last entry (crash while appending) fails its checksum, and is dropped
+public class OutcomeJournal {
+    public static final int MAGIC_NUMBER = 0x4D51524A;  // "MQRJ"
+    public static final byte FORMAT_VERSION = 3;
+    public static final int NO_PENDING_SAVE = -1;
+
+    private static final int HEADER_LENGTH = Integer.BYTES + 1 + Integer.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final File file;
+    private FileChannel channel;
+    private final List<Long> entryOffsets = new ArrayList<>();  // position of each entry in file
+    private int saveFileChecksum;  // checksum of save file journal follows
+
+    private OutcomeJournal(File file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    // MODIFIES: mazeList
+    // EFFECTS: opens journal file, creating it if it doesn't exist
+    //          if journal follows save file with given checksum, its outcomes are registered to mazes in mazeList,
+    //          otherwise, journal is cleared to follow that save file
+    //          throws IOException if raised while opening / reading from / writing to file
+    public static OutcomeJournal open(File file, int saveFileChecksum, MazeListModel mazeList) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        OutcomeJournal journal = new OutcomeJournal(file, channel);
+        try {
+            journal.replay(file, saveFileChecksum, mazeList);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    // EFFECTS: returns CRC32 checksum (lower 32 bits) of given file's contents
+    //          throws IOException if raised while opening / reading from file
+    public static int checksumFile(File file) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            CRC32 crc = new CRC32();
+            crc.update(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+            return (int) crc.getValue();
+        }
+    }
+
+    // EFFECTS: returns number of entries in journal (including replayed entries)
+    public synchronized int getEntryCount() {
+        return entryOffsets.size();
+    }
+
+    // MODIFIES: this
+    // REQUIRES: mazeIndex is maze's index in save file journal follows (see class comment)
+    // EFFECTS: appends outcome of game on maze with given index and name to journal, and syncs it to disk
+    //          throws IOException if raised while writing
+    public synchronized void append(int mazeIndex, String mazeName, MazeModel.Outcome outcome) throws IOException {
+        ByteArrayOutputStream entry = new ByteArrayOutputStream();
+        DataOutputStream entryStream = new DataOutputStream(entry);
+        entryStream.writeInt(mazeIndex);
+        entryStream.writeUTF(mazeName);
+        entryStream.writeByte(outcome.ordinal());
+        ByteArrayOutputStream framedEntry = new ByteArrayOutputStream();
+        BinaryWriter.writeRecord(new DataOutputStream(framedEntry), entry.toByteArray());
+        long offset = channel.size();
+        channel.write(ByteBuffer.wrap(framedEntry.toByteArray()), offset);
+        channel.force(false);
+        entryOffsets.add(offset);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: clears journal so it follows save file with given checksum, and syncs it to disk
+    //          call after save file has been completely rewritten
+    //          throws IOException if raised while writing
+    public synchronized void clear(int saveFileChecksum) throws IOException {
+        compact(saveFileChecksum, getEntryCount());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks save file with given checksum, holding first savedEntries entries, as pending, and syncs it
+    //          call after new save file has been written, but before it replaces old one
+    //          if app stops before compact is called, the journal is then replayed onto either save file
+    //          throws IOException if raised while reading / writing
+    public synchronized void prepareForSave(int pendingChecksum, int savedEntries) throws IOException {
+        rewrite(saveFileChecksum, pendingChecksum, savedEntries, 0);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: drops first savedEntries entries, and makes journal follow save file with given checksum
+    //          call after save file has been rewritten with all outcomes up to (not after) savedEntries
+    //          throws IOException if raised while reading / writing
+    public synchronized void compact(int saveFileChecksum, int savedEntries) throws IOException {
+        rewrite(saveFileChecksum, 0, NO_PENDING_SAVE, savedEntries);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rewrites journal with given header, dropping first droppedEntries entries
+    //          new journal is written to a temporary file, synced, and atomically renamed over old journal,
+    //          so a crash part way through leaves either old or new journal
+    //          throws IOException if raised while reading / writing
+    private void rewrite(int saveFileChecksum, int pendingChecksum, int pendingEntries, int droppedEntries)
+            throws IOException {
+        long keptStart = droppedEntries < getEntryCount() ? entryOffsets.get(droppedEntries) : channel.size();
+        ByteBuffer journal = ByteBuffer.allocate(HEADER_LENGTH + (int) (channel.size() - keptStart));
+        journal.putInt(MAGIC_NUMBER);
+        journal.put(FORMAT_VERSION);
+        journal.putInt(saveFileChecksum);
+        journal.putInt(pendingChecksum);
+        journal.putInt(pendingEntries);
+        readFully(journal, keptStart);
+        journal.flip();
+        replaceJournal(journal);
+        this.saveFileChecksum = saveFileChecksum;
+        List<Long> keptOffsets = new ArrayList<>();
+        for (long offset : entryOffsets.subList(droppedEntries, getEntryCount())) {
+            keptOffsets.add(offset - keptStart + HEADER_LENGTH);
+        }
+        entryOffsets.clear();
+        entryOffsets.addAll(keptOffsets);
+    }
+
+    // MODIFIES: buffer
+    // EFFECTS: fills rest of buffer with journal file's contents, starting at given position
+    //          throws IOException if raised while reading, or file ends before buffer is full
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long readPosition = position;
+        while (buffer.hasRemaining()) {
+            int bytesRead = channel.read(buffer, readPosition);
+            if (bytesRead < 0) {
+                throw new EOFException("Journal file ended early");
+            }
+            readPosition += bytesRead;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces journal file with given contents, by writing and syncing a temporary file,
+    //          then atomically renaming it over journal file
+    //          throws IOException if raised while writing
+    private void replaceJournal(ByteBuffer journal) throws IOException {
+        File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        try (FileChannel tempChannel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (journal.hasRemaining()) {
+                tempChannel.write(journal);
+            }
+            tempChannel.force(true);
+        }
+        channel.close();
+        BinaryWriter.replaceFile(tempFile.toPath(), file.toPath());
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes journal file
+    //          throws IOException if raised while closing
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    // MODIFIES: this, mazeList
+    // EFFECTS: registers journal's outcomes to mazeList if journal follows save file with given checksum,
+    //          or only outcomes the save file doesn't hold if it is journal's pending save (journal is then
+    //          compacted to follow it), then drops any partly written entry at end of journal
+    //          otherwise clears journal to follow that save file
+    //          throws IOException if raised while reading / writing
+    private void replay(File file, int saveFileChecksum, MazeListModel mazeList) throws IOException {
+        byte[] journalBytes = Files.readAllBytes(file.toPath());
+        DataInputStream journalStream = new DataInputStream(new ByteArrayInputStream(journalBytes));
+        int savedEntries = findSavedEntries(journalStream, saveFileChecksum);
+        if (savedEntries == NO_PENDING_SAVE) {
+            clear(saveFileChecksum);
+            return;
+        }
+        int validLength = HEADER_LENGTH;
+        while (readEntry(journalStream, entryOffsets.size() >= savedEntries ? mazeList : null)) {
+            entryOffsets.add((long) validLength);
+            validLength = journalBytes.length - journalStream.available();
+        }
+        if (validLength < journalBytes.length) {
+            channel.truncate(validLength);
+            channel.force(false);
+        }
+        this.saveFileChecksum = saveFileChecksum;
+        if (savedEntries > 0) {
+            compact(saveFileChecksum, Math.min(savedEntries, getEntryCount()));
+        }
+    }
+
+    // EFFECTS: returns number of journal's first entries already held by save file with given checksum:
+    //          0 if journal follows that save file, or pending save's entry count if it is journal's pending save
+    //          returns NO_PENDING_SAVE if journal header is invalid, or neither checksum matches
+    //          throws IOException if raised while reading
+    private static int findSavedEntries(DataInputStream journalStream, int saveFileChecksum) throws IOException {
+        try {
+            if (journalStream.readInt() != MAGIC_NUMBER || journalStream.readByte() != FORMAT_VERSION) {
+                return NO_PENDING_SAVE;
+            }
+            int checksum = journalStream.readInt();
+            int pendingChecksum = journalStream.readInt();
+            int pendingEntries = journalStream.readInt();
+            if (checksum == saveFileChecksum) {
+                return 0;
+            }
+            return pendingChecksum == saveFileChecksum ? pendingEntries : NO_PENDING_SAVE;
+        } catch (EOFException e) {
+            return NO_PENDING_SAVE;  // too short to have header
+        }
+    }
+
+    // MODIFIES: mazeList
+    // EFFECTS: reads next entry and registers its outcome to maze at its index in mazeList, if that maze has its name
+    //          (entry is only checked if mazeList is null)
+    //          returns false if journal has ended, or next entry is partly written or corrupted
+    //          throws IOException if raised while reading
+    private static boolean readEntry(DataInputStream journalStream, MazeListModel mazeList) throws IOException {
+        byte[] entry;
+        try {
+            entry = BinaryReader.readRecord(journalStream);
+            if (BinaryWriter.checksum(entry) != journalStream.readInt()) {
+                return false;
+            }
+        } catch (EOFException e) {
+            return false;
+        }
+        DataInputStream entryStream = new DataInputStream(new ByteArrayInputStream(entry));
+        int mazeIndex = entryStream.readInt();
+        String mazeName = entryStream.readUTF();
+        int outcomeIndex = entryStream.readUnsignedByte();
+        if (outcomeIndex >= MazeModel.Outcome.values().length) {
+            return false;
+        }
+        if (mazeList != null) {
+            mazeList.registerOutcome(mazeIndex, mazeName, MazeModel.Outcome.values()[outcomeIndex]);
+        }
+        return true;
+    }
+}
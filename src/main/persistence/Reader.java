@@ -12,9 +12,16 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Reader {
     private Reader() {}
@@ -25,6 +32,20 @@ public class Reader {
 
     private static final String TRASH_FILE_PATH_NAME = "./data/dump/corruptedSaveTrash.txt";
 
+    // if true, mazes are read with lazy layouts (see MazeModel), so layouts are only built when mazes are played
+    private static volatile boolean lazyLayouts = false;
+
+    // MODIFIES: this
+    // EFFECTS: sets whether mazes read from now on are read with lazy layouts
+    public static void setLazyLayouts(boolean lazyLayouts) {
+        Reader.lazyLayouts = lazyLayouts;
+    }
+
+    // EFFECTS: returns true if mazes are read with lazy layouts
+    public static boolean isLazyLayouts() {
+        return lazyLayouts;
+    }
+
     // EFFECTS: returns list of mazes read from save file
     //          throws IOException if raised while opening / reading from file
     //          maze list file format: each line is relative file name of a maze file
@@ -36,40 +57,144 @@ public class Reader {
     // EFFECTS: returns list of mazes read from save file
     //          given file path determines where invalid maze save data is trashed
     //          throws IOException if raised while opening / reading from file
+    //          save file is split into each maze's save data, which are parsed in parallel
+    //          list order matches save file order, and invalid maze save data is trashed in save file order
     public static List<MazeModel> readMazeList(File file, String trashFilePath) throws IOException {
-        List<String> fileContent = readFile(file);
-//        return parseContent(fileContent);
-        return parseContent(fileContent, trashFilePath);
+        List<List<String>> mazeBlocks;
+        try (Stream<List<String>> blocks = streamMazeBlocks(file)) {
+            mazeBlocks = blocks.collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        List<ParsedMaze> parsedMazes = mazeBlocks.parallelStream()
+                .map(ParsedMaze::new)
+                .collect(Collectors.toList());
+        List<MazeModel> mazes = new ArrayList<>();
+        for (ParsedMaze parsedMaze : parsedMazes) {
+            if (parsedMaze.maze != null) {
+                mazes.add(parsedMaze.maze);
+            } else {
+                trashBadSaveFile(parsedMaze.mazeData, parsedMaze.exception.getMessage(), trashFilePath);
+            }
+        }
+        return mazes;
+    }
+
+    // EFFECTS: returns lazily populated stream of mazes read from save file, in file order
+    //          mazes are parsed one at a time as the stream is consumed, so only one maze's save data
+    //          is held in memory at once; invalid maze save data is trashed as it is reached
+    //          stream must be closed (e.g. with try-with-resources) to close the file
+    //          throws IOException if raised while opening file
+    //          IOExceptions raised while reading are rethrown as UncheckedIOException (see Files.lines)
+    public static Stream<MazeModel> streamMazeList(File file) throws IOException {
+        return streamMazeList(file, TRASH_FILE_PATH_NAME);
     }
 
-    // EFFECTS: reads save data from save file
-    private static List<String> readFile(File file) throws IOException {
-        return Files.readAllLines(file.toPath());
+    // EFFECTS: as streamMazeList(file), but given file path determines where invalid maze save data is trashed
+    public static Stream<MazeModel> streamMazeList(File file, String trashFilePath) throws IOException {
+        return streamMazeBlocks(file)
+                .map(mazeData -> parseMazeOrTrash(mazeData, trashFilePath))
+                .filter(Objects::nonNull);
     }
 
-    // EFFECTS: parses save data based on save file format to make saved mazes
+    // EFFECTS: returns lazily populated stream of each maze's save data (without separators), in file order
     //          each maze's save data starts with SEPARATOR_LINE
-    private static List<MazeModel> parseContent(List<String> fileContent, String trashFilePath) {
-        List<MazeModel> parsedMazes = new ArrayList<>();
-        ListIterator<String> contentIterator = fileContent.listIterator();
-        List<String> currentMazeData = new ArrayList<>();
-        while (contentIterator.hasNext()) {
-            String currentLine = contentIterator.next();
-            if (currentLine.equals(SEPARATOR_LINE)) {  // current maze data is done, needs parsing, then add to list
-                if (currentMazeData.size() != 0) {  // corrects for first line of save file
-                    try {
-                        MazeModel parsedMaze = parseMaze(currentMazeData);
-                        parsedMazes.add(parsedMaze);
-                    } catch (InvalidMazeSaveDataException e) {
-                        trashBadSaveFile(currentMazeData, e.getMessage(), trashFilePath);
-                    }
-                    currentMazeData.clear();  // ready for next saved maze
-                }
-            } else {
-                currentMazeData.add(currentLine);  // current maze data continues, collect for eventual parsing
+    //          stream must be closed to close the file
+    private static Stream<List<String>> streamMazeBlocks(File file) throws IOException {
+        BufferedReader bufferedReader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+        Iterator<List<String>> blockIterator = new MazeBlockIterator(bufferedReader);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(blockIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(() -> closeUnchecked(bufferedReader));
+    }
+
+    private static void closeUnchecked(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // EFFECTS: returns maze parsed from save data, or null if save data is invalid (after trashing it)
+    private static MazeModel parseMazeOrTrash(List<String> mazeData, String trashFilePath) {
+        try {
+            return parseMaze(mazeData);
+        } catch (InvalidMazeSaveDataException e) {
+            trashBadSaveFile(mazeData, e.getMessage(), trashFilePath);
+            return null;
+        }
+    }
+
+    // result of parsing one maze's save data: either the maze, or the exception explaining why data is invalid
+    // lets parsing run in parallel while trashing (which writes to file) happens afterwards, in order
+    private static class ParsedMaze {
+        private final List<String> mazeData;
+        private MazeModel maze = null;
+        private InvalidMazeSaveDataException exception = null;
+
+        ParsedMaze(List<String> mazeData) {
+            this.mazeData = mazeData;
+            try {
+                maze = parseMaze(mazeData);
+            } catch (InvalidMazeSaveDataException e) {
+                exception = e;
+            }
+        }
+    }
+
+    // iterates over each maze's save data, reading from given reader only as far as the next SEPARATOR_LINE
+    // data before the first SEPARATOR_LINE, or after the last, is not a complete maze, and is skipped
+    private static class MazeBlockIterator implements Iterator<List<String>> {
+        private final BufferedReader bufferedReader;
+        private List<String> nextBlock = null;
+        private boolean endOfFile = false;
+
+        MazeBlockIterator(BufferedReader bufferedReader) {
+            this.bufferedReader = bufferedReader;
+        }
+
+        public boolean hasNext() {
+            while (nextBlock == null && !endOfFile) {
+                nextBlock = readNextBlock();
+            }
+            return nextBlock != null;
+        }
+
+        public List<String> next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<String> block = nextBlock;
+            nextBlock = null;
+            return block;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads lines up to next SEPARATOR_LINE, returns them
+        //          returns null if there was no data before the separator, or end of file was reached first
+        private List<String> readNextBlock() {
+            List<String> block = new ArrayList<>();
+            String currentLine = readLine();
+            while (currentLine != null && !currentLine.equals(SEPARATOR_LINE)) {
+                block.add(currentLine);  // current maze data continues, collect for eventual parsing
+                currentLine = readLine();
+            }
+            if (currentLine == null) {
+                endOfFile = true;
+                return null;
+            }
+            return block.size() == 0 ? null : block;  // corrects for first line of save file
+        }
+
+        private String readLine() {
+            try {
+                return bufferedReader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
         }
-        return parsedMazes;
     }
 
     // EFFECTS: parses maze save data based on save file format to make saved maze
@@ -93,7 +218,7 @@ public class Reader {
             throw new InvalidMazeSaveDataException(
                     String.format("Maze %s save data is larger than expected from size code %s", name, sizeCode));
         }
-        return new MazeModel(name, size, savedOutcomeHistory, savedLayout);
+        return new MazeModel(name, size, savedOutcomeHistory, savedLayout, lazyLayouts);
     }
 
     private static List<String> getSavedLayout(
@@ -158,7 +283,7 @@ public class Reader {
         return totalPlays;
     }
 
-    private static MazeSizeModel.MazeSize checkSizeCode(String name, String sizeCode)
+    static MazeSizeModel.MazeSize checkSizeCode(String name, String sizeCode)
             throws InvalidMazeSaveDataException {
         MazeSizeModel.MazeSize size;
         try {
@@ -172,7 +297,7 @@ public class Reader {
     }
 
     // TODO: implement logging system, have this method use it
-    private static void trashBadSaveFile(
+    static void trashBadSaveFile(
             List<String> mazeData,
             String exceptionMessage,
             String trashFilePath) {
@@ -8,6 +8,7 @@ import grid.Grid;
 import grid.GridPosition;
 import model.GameModel;
 import model.MazeModel;
+import utils.LatencyStats;
 
 import javax.swing.*;
 import java.awt.*;
@@ -19,19 +20,38 @@ public class GameUI extends JPanel {
         ONGOING
     }
 
+    // panels stay default until canvas has been proven in play; canvas (much quicker to lay out and repaint) can be
+    // chosen by running with -Dminoquar.renderer=CANVAS
+    public static final MazeRenderer.Type DEFAULT_RENDERER = MazeRenderer.Type.PANELS;
+    public static final String RENDERER_PROPERTY = "minoquar.renderer";
+
     private Minoquar minoquarFrame;
-    private MazeUIPanel mazeUIPanel;
+    private MazeRenderer mazeRenderer;
+    private MazeRenderer.Type rendererType;
     private GameControlPanel gameControlPanel;
     private GameModel gameModel;
+    private MazeModel mazeModel;
     private boolean canHandleClick;
     private GameStatus gameStatus;
+    // time from a click happening (its event's time, so time waiting in event queue is included) to end of model
+    // update (display update not included), reported when game is quit
+    private LatencyStats clickLatency;
 
 
-    // EFFECTS: creates the game's UI panel in app window with given maze
+    // EFFECTS: creates the game's UI panel in app window with given maze, displayed by renderer chosen by
+    //          RENDERER_PROPERTY (see getConfiguredRenderer)
     public GameUI(Minoquar minoquarFrame, MazeModel mazeModel)
             throws GridPositionOutOfBoundsException {
+        this(minoquarFrame, mazeModel, getConfiguredRenderer());
+    }
+
+    // EFFECTS: creates the game's UI panel in app window with given maze, displayed by given type of renderer
+    public GameUI(Minoquar minoquarFrame, MazeModel mazeModel, MazeRenderer.Type rendererType)
+            throws GridPositionOutOfBoundsException {
         super(new BorderLayout());
         this.minoquarFrame = minoquarFrame;
+        this.mazeModel = mazeModel;
+        this.rendererType = rendererType;
         try {
             this.gameModel = new GameModel(mazeModel);
         } catch (RuntimeException e) {
@@ -39,6 +59,7 @@ public class GameUI extends JPanel {
         }
         this.canHandleClick = true;
         this.gameStatus = GameStatus.ONGOING;
+        this.clickLatency = new LatencyStats();
         createGameUI();
     }
 
@@ -46,9 +67,9 @@ public class GameUI extends JPanel {
     // EFFECTS: sets up game UI panels
     public void createGameUI() {
         this.gameControlPanel = createControlPanel();
-        this.mazeUIPanel = createMazePanel();
+        this.mazeRenderer = createMazeRenderer();
         setLayout(new BoxLayout(this, BoxLayout.PAGE_AXIS));
-        add(mazeUIPanel);
+        add(mazeRenderer.getComponent());
         add(gameControlPanel);
     }
 
@@ -56,7 +77,7 @@ public class GameUI extends JPanel {
         return new GameControlPanel(this);
     }
 
-    private MazeUIPanel createMazePanel() {
+    private MazeRenderer createMazeRenderer() {
         Grid<SquareDisplayData> displayData = null;
         try {
             displayData = gameModel.display();
@@ -64,11 +85,35 @@ public class GameUI extends JPanel {
             crashProcedure(e);
         }
         assert displayData != null;
-        mazeUIPanel = new MazeUIPanel(displayData, this);
-        return mazeUIPanel;
+        if (rendererType == MazeRenderer.Type.PANELS) {
+            return new MazeUIPanel(displayData, this);
+        }
+        return new MazeCanvas(displayData, this);
     }
 
+    // EFFECTS: returns renderer type named by RENDERER_PROPERTY system property (ignoring case),
+    //          or DEFAULT_RENDERER if property isn't set or doesn't name a type
+    public static MazeRenderer.Type getConfiguredRenderer() {
+        String name = System.getProperty(RENDERER_PROPERTY);
+        if (name != null) {
+            for (MazeRenderer.Type type : MazeRenderer.Type.values()) {
+                if (type.name().equalsIgnoreCase(name.trim())) {
+                    return type;
+                }
+            }
+        }
+        return DEFAULT_RENDERER;
+    }
+
+    // EFFECTS: handles click on square at given position, timed from now
     public void handleClickAt(GridPosition clickedPosition) {
+        handleClickAt(clickedPosition, System.nanoTime());
+    }
+
+    // EFFECTS: handles click on square at given position, by playing a turn if hero's move is valid
+    //          records click latency from given System.nanoTime time (when click happened) to end
+    //          of model update, whether or not move was valid
+    public void handleClickAt(GridPosition clickedPosition, long clickNanos) {
         if (gameStatus == GameStatus.ONGOING && canHandleClick) {
             this.canHandleClick = false;  // keeps clicks from working while move is processed
             // TODO: test if this is actually needed
@@ -85,6 +130,7 @@ public class GameUI extends JPanel {
             if (keepGoing) {
                 checkForLoss();
             }
+            clickLatency.recordSince(clickNanos);
             if (updateNeeded) {
                 updateDisplay();
             }
@@ -152,21 +198,24 @@ public class GameUI extends JPanel {
         }
     }
 
-    // EFFECTS: updates the maze panel display
+    // EFFECTS: updates the maze panel display, redrawing only the squares whose entities have changed
     private void updateDisplay() {
         try {
-            mazeUIPanel.updateDisplay(gameModel.display());
+            mazeRenderer.updateSquares(gameModel.getDisplayChanges());
         } catch (RuntimeException e) {
             crashProcedure(e);
         }
     }
 
+    // EFFECTS: registers and saves game's outcome, reports game's click latency, then returns to menu
     public void handleGameQuit() {
-        if (gameStatus == GameStatus.WIN) {
-            gameModel.registerOutcome(MazeModel.Outcome.WIN);
-        } else {
-            gameModel.registerOutcome(MazeModel.Outcome.LOSS);
+        if (clickLatency.getCount() > 0) {
+            System.out.printf("Click latency on %s maze %s: %s%n",
+                    mazeModel.getSizeName(), mazeModel.getName(), clickLatency);
         }
+        MazeModel.Outcome outcome = gameStatus == GameStatus.WIN ? MazeModel.Outcome.WIN : MazeModel.Outcome.LOSS;
+        gameModel.registerOutcome(outcome);
+        minoquarFrame.saveOutcome(mazeModel, outcome);
         minoquarFrame.swapToMenuUI();
     }
 
@@ -0,0 +1,171 @@
+package ui;
+
+import grid.Grid;
+import grid.GridPosition;
+
+import utils.LatencyStats;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+
+// displays entire maze in one component, instead of MazeUIPanel's component per square
+// wall/passage squares are painted once into a cached background image, which is only rebuilt when square size or
+// a square's status changes, then entities are painted over it
+// updates only repaint squares whose display data has changed, and clicks are mapped from mouse coordinates to
+// squares, so there are no per-square components, borders or listeners to lay out and paint
+// squares stay square: square size is the largest that fits maze in component, and maze is drawn from top left
+public class MazeCanvas extends JComponent implements MazeRenderer {
+    private static final int MIN_SQUARE_SIZE = 1;
+
+    private final int sideLength;
+    private final Grid<SquareDisplayData> squares;
+    private final GameUI gameUI;
+    private BufferedImage background;  // null when it needs to be rebuilt
+
+    // REQUIRES: displayData is square (width = height)
+    // EFFECTS: creates new MazeCanvas showing given display data, sized to match MazeUIPanel
+    //          canvas keeps and updates given display data grid, so it mustn't be changed elsewhere
+    public MazeCanvas(Grid<SquareDisplayData> displayData, GameUI gameUI) {
+        this.sideLength = displayData.getWidth();
+        this.squares = displayData;
+        this.gameUI = gameUI;
+        this.background = null;
+        setOpaque(true);
+        setPreferredSize(new Dimension(
+                sideLength * MazeUIPanel.SQUARE_SIZE, sideLength * MazeUIPanel.SQUARE_SIZE));
+        addMouseListener(new CanvasPressListener());
+    }
+
+    @Override
+    public JComponent getComponent() {
+        return this;
+    }
+
+    // EFFECTS: updates maze display, repainting only squares whose display data has changed
+    @Override
+    public void updateDisplay(Grid<SquareDisplayData> displayData) {
+        if (squares.getWidth() != displayData.getWidth() || squares.getHeight() != displayData.getHeight()) {
+            crashProcedure(new IllegalArgumentException(String.format(
+                    "Display data: %d wide x %d high, Game canvas: %d wide x %d high",
+                    displayData.getWidth(), displayData.getHeight(), squares.getWidth(), squares.getHeight())));
+        }
+        try {
+            for (int y = 0; y < sideLength; y++) {
+                for (int x = 0; x < sideLength; x++) {
+                    updateSquare(GridPosition.of(x, y), displayData.get(x, y));
+                }
+            }
+        } catch (RuntimeException e) {
+            crashProcedure(e);
+        }
+    }
+
+    // EFFECTS: updates display of only the squares at given positions, with their new display data
+    //          (see GameModel.getDisplayChanges), repainting only those squares
+    @Override
+    public void updateSquares(Map<GridPosition, SquareDisplayData> changes) {
+        try {
+            for (Map.Entry<GridPosition, SquareDisplayData> change : changes.entrySet()) {
+                updateSquare(change.getKey(), change.getValue());
+            }
+        } catch (RuntimeException e) {
+            crashProcedure(e);
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int squareSize = getSquareSize();
+        int mazeSize = squareSize * sideLength;
+        if (background == null || background.getWidth() != mazeSize) {
+            background = createBackground(squareSize);
+        }
+        Rectangle clip = g.getClipBounds() == null ? new Rectangle(getSize()) : g.getClipBounds();
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        g.drawImage(background, 0, 0, null);
+        // only squares that overlap clip need their entities painted
+        int endX = Math.min(sideLength, (clip.x + clip.width + squareSize - 1) / squareSize);
+        int endY = Math.min(sideLength, (clip.y + clip.height + squareSize - 1) / squareSize);
+        for (int y = clip.y / squareSize; y < endY; y++) {
+            for (int x = clip.x / squareSize; x < endX; x++) {
+                MazeSquarePanel.paintEntities(g, squares.get(x, y).getEntityTypes(),
+                        x * squareSize, y * squareSize, squareSize, squareSize);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets display data of square at given position and repaints it, if data has changed
+    //          background is rebuilt on next paint if square's status has changed
+    private void updateSquare(GridPosition position, SquareDisplayData displayData) {
+        SquareDisplayData current = squares.get(position);
+        if (current.equals(displayData)) {
+            return;
+        }
+        if (current.getSquareStatus() != displayData.getSquareStatus()) {
+            background = null;
+        }
+        squares.set(position, displayData);
+        int squareSize = getSquareSize();
+        repaint(position.getX() * squareSize, position.getY() * squareSize, squareSize, squareSize);
+    }
+
+    // EFFECTS: returns image of all squares' statuses, with given square size, bordered like MazeSquarePanel
+    private BufferedImage createBackground(int squareSize) {
+        int mazeSize = squareSize * sideLength;
+        BufferedImage image = new BufferedImage(mazeSize, mazeSize, BufferedImage.TYPE_INT_RGB);
+        Graphics g = image.getGraphics();
+        for (int y = 0; y < sideLength; y++) {
+            for (int x = 0; x < sideLength; x++) {
+                g.setColor(MazeSquarePanel.getSquareColor(squares.get(x, y).getSquareStatus()));
+                g.fillRect(x * squareSize, y * squareSize, squareSize, squareSize);
+                g.setColor(Color.gray);
+                g.drawRect(x * squareSize, y * squareSize, squareSize - 1, squareSize - 1);
+            }
+        }
+        g.dispose();
+        return image;
+    }
+
+    // EFFECTS: returns side length in pixels of largest square size that fits whole maze in canvas
+    private int getSquareSize() {
+        return Math.max(MIN_SQUARE_SIZE, Math.min(getWidth(), getHeight()) / sideLength);
+    }
+
+    // EFFECTS: passes click at given canvas coordinates to game UI as a click on square there, with
+    //          System.nanoTime time click happened
+    //          square is worked out from coordinates, so no search is needed
+    //          ignores clicks outside maze (when canvas isn't square)
+    private void handleClickAt(int canvasX, int canvasY, long clickNanos) {
+        int squareSize = getSquareSize();
+        int x = canvasX / squareSize;
+        int y = canvasY / squareSize;
+        if (canvasX < 0 || canvasY < 0 || x >= sideLength || y >= sideLength) {
+            return;
+        }
+        try {
+            gameUI.handleClickAt(GridPosition.of(x, y), clickNanos);
+        } catch (RuntimeException e) {
+            crashProcedure(e);
+        }
+    }
+
+    private void crashProcedure(RuntimeException e) {
+        gameUI.crashProcedure(e);
+    }
+
+    class CanvasPressListener extends MouseAdapter {
+
+        @Override
+        public void mousePressed(MouseEvent e) {
+            if (SwingUtilities.isLeftMouseButton(e)) {
+                handleClickAt(e.getX(), e.getY(), LatencyStats.nanoTimeOf(e.getWhen()));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ui;
+
+import grid.Grid;
+import grid.GridPosition;
+
+import javax.swing.*;
+import java.util.Map;
+
+// displays the squares of a game's maze, and passes clicks on squares to its GameUI (see GameUI.handleClickAt)
+public interface MazeRenderer {
+    // ways of displaying a maze
+    //      PANELS: one MazeSquarePanel button per square (see MazeUIPanel)
+    //      CANVAS: whole maze painted by one component (see MazeCanvas)
+    enum Type {
+        PANELS,
+        CANVAS
+    }
+
+    // EFFECTS: returns Swing component that displays maze, to be added to game UI
+    JComponent getComponent();
+
+    // REQUIRES: displayData has same dimensions as maze being displayed
+    // EFFECTS: updates maze display, redrawing only squares whose display data has changed
+    void updateDisplay(Grid<SquareDisplayData> displayData);
+
+    // EFFECTS: updates display of only the squares at given positions, with their new display data
+    //          (see GameModel.getDisplayChanges), leaving all other squares as they are
+    void updateSquares(Map<GridPosition, SquareDisplayData> changes);
+}
@@ -1,6 +1,9 @@
 package ui;
 
+import grid.GridPosition;
 import model.GameEntity;
+import model.MazeLayoutModel;
+import utils.LatencyStats;
 
 import javax.swing.*;
 import java.awt.*;
@@ -12,9 +15,13 @@ import java.util.List;
 public class MazeSquarePanel extends JButton {
     private SquareDisplayData displayData;
     private MazeUIPanel mazeUIPanel;
+    private final GridPosition position;
 
-    public MazeSquarePanel(SquareDisplayData displayData, MazeUIPanel mazeUIPanel) {
+    // EFFECTS: creates panel for square at given position in maze, showing given display data
+    //          panel keeps its position, so clicks on it can be passed on without searching for it
+    public MazeSquarePanel(SquareDisplayData displayData, GridPosition position, MazeUIPanel mazeUIPanel) {
         this.mazeUIPanel = mazeUIPanel;
+        this.position = position;
         setBorder(BorderFactory.createLineBorder(Color.gray, 1));
         setOpaque(true);
         addActionListener(new PanelPressListener());
@@ -25,25 +32,19 @@ public class MazeSquarePanel extends JButton {
     // EFFECTS: draws panel according to given display data
     private void drawPanel(SquareDisplayData displayData) {
         this.displayData = displayData;
-        switch (displayData.getSquareStatus()) {
-            case PASSAGE:
-                setBackground(Color.lightGray);
-                break;
-            case WALL:
-                setBackground(Color.black);
-                break;
-            default:
-                // Should not get this!
-                // TODO: add exception for this?
-                setBackground(Color.red);
-                break;
-        }
+        setBackground(getSquareColor(displayData.getSquareStatus()));
         repaint();
     }
 
-    // EFFECT: updates panel display if given display data is new
+    // EFFECTS: returns position of this panel's square in maze
+    public GridPosition getPosition() {
+        return position;
+    }
+
+    // EFFECT: updates panel display if given display data is different from what panel shows
+    //         compares contents, so a full display rebuild only redraws squares that have actually changed
     public void updateDisplay(SquareDisplayData displayData) {
-        if (this.displayData != displayData) {
+        if (!this.displayData.equals(displayData)) {
             drawPanel(displayData);
         }
     }
@@ -51,29 +52,51 @@ public class MazeSquarePanel extends JButton {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        List<GameEntity.EntityType> entities = displayData.getEntityTypes();
+        paintEntities(g, displayData.getEntityTypes(), 0, 0, getWidth(), getHeight());
+    }
+
+    // EFFECTS: returns background colour of square with given status
+    //          shared with MazeCanvas, so both renderers look the same
+    static Color getSquareColor(MazeLayoutModel.MazeSquare squareStatus) {
+        switch (squareStatus) {
+            case PASSAGE:
+                return Color.lightGray;
+            case WALL:
+                return Color.black;
+            default:
+                // Should not get this!
+                // TODO: add exception for this?
+                return Color.red;
+        }
+    }
+
+    // MODIFIES: g
+    // EFFECTS: paints given entities into square with given top left corner and size
+    //          shared with MazeCanvas, so both renderers look the same
+    static void paintEntities(Graphics g, List<GameEntity.EntityType> entities, int x, int y, int width, int height) {
         Color savedColor = g.getColor();
         // needs fine tuning to work with grid size
         // TODO: make margin sizing responsive to grid size
         int entityMargin = 2;
-        int entityWidth = getWidth() - 2 * entityMargin;
-        int entityHeight = getHeight() - 2 * entityMargin;
+        int entityWidth = width - 2 * entityMargin;
+        int entityHeight = height - 2 * entityMargin;
         if (entities.contains(GameEntity.EntityType.TREASURE)) {
             g.setColor(Color.yellow);
-            g.fillRect(entityMargin, entityMargin, entityWidth, entityHeight);
+            g.fillRect(x + entityMargin, y + entityMargin, entityWidth, entityHeight);
         }
         if (entities.contains(GameEntity.EntityType.HERO)) {
             g.setColor(Color.blue);
-            g.fillOval(entityMargin, entityMargin, entityWidth, entityHeight);
+            g.fillOval(x + entityMargin, y + entityMargin, entityWidth, entityHeight);
         }
         if (entities.contains(GameEntity.EntityType.MINOTAUR)) {
             g.setColor(Color.red);
-            int bottomMargin = getHeight() - entityMargin;
-            int rightMargin = getWidth() - entityMargin;
-            int[] pointsX = new int[]{getWidth() / 2, entityMargin, rightMargin};
-            int[] pointsY = new int[]{entityMargin, bottomMargin, bottomMargin};
+            int bottomMargin = y + height - entityMargin;
+            int rightMargin = x + width - entityMargin;
+            int[] pointsX = new int[]{x + width / 2, x + entityMargin, rightMargin};
+            int[] pointsY = new int[]{y + entityMargin, bottomMargin, bottomMargin};
             g.fillPolygon(pointsX, pointsY, 3);
         }
+        g.setColor(savedColor);
     }
 
     class PanelPressListener implements ActionListener {
@@ -81,7 +104,7 @@ public class MazeSquarePanel extends JButton {
         @Override
         public void actionPerformed(ActionEvent e) {
 //            System.out.println(e.getSource());  // can use e.getSource to check which panel was clicked
-            mazeUIPanel.handleClick(e);
+            mazeUIPanel.handleClick(e, LatencyStats.nanoTimeOf(e.getWhen()));
         }
     }
 }
@@ -9,11 +9,12 @@ import grid.GridPosition;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.util.Map;
 
 // responsible for displaying entire maze, passes on update requests to relevant squares
-public class MazeUIPanel extends JPanel {
+public class MazeUIPanel extends JPanel implements MazeRenderer {
     // need to fine tune, so mazes of all sizes start square
-    private static final int SQUARE_SIZE = 15;
+    static final int SQUARE_SIZE = 15;
 
     private Grid<MazeSquarePanel> panelGrid;
     private GameUI gameUI;
@@ -29,34 +30,28 @@ public class MazeUIPanel extends JPanel {
         setLayout(new GridLayout(sideLength, sideLength));
         setComponentOrientation(ComponentOrientation.LEFT_TO_RIGHT);
         setPreferredSize(new Dimension(sideLength * SQUARE_SIZE, sideLength * SQUARE_SIZE));
-        GridIterator<SquareDisplayData> displayIterator = displayData.gridCellIterator();
-        GridIterator<MazeSquarePanel> panelIterator = panelGrid.gridCellIterator();
         try {
-            while (displayIterator.hasNext()) {
-                SquareDisplayData displaySquare = displayIterator.next();
-                MazeSquarePanel panel = new MazeSquarePanel(displaySquare, this);
-                panelIterator.next();
-                panelIterator.set(panel);
-                add(panel);
+            // panels are added in row-major order, which is how GridLayout places them
+            for (int y = 0; y < sideLength; y++) {
+                for (int x = 0; x < sideLength; x++) {
+                    GridPosition position = GridPosition.of(x, y);
+                    MazeSquarePanel panel = new MazeSquarePanel(displayData.get(position), position, this);
+                    panelGrid.set(position, panel);
+                    add(panel);
+                }
             }
         } catch (RuntimeException e) {
             crashProcedure(e);
         }
-//        for (int y = 0; y < sideLength; y++) {
-//            for (int x = 0; x < sideLength; x++) {
-//                MazeSquarePanel panel = new MazeSquarePanel(displayData.get(x, y), this);
-//                panelGrid.set(x, y, panel);
-//                add(panel);
-//            }
-//        }
         setVisible(true);
     }
 
-    public void handleClick(ActionEvent e) {
+    // EFFECTS: passes click on a square panel to game UI, with System.nanoTime time click happened
+    //          each panel knows its own position, so clicked square is found without searching panel grid
+    public void handleClick(ActionEvent e, long clickNanos) {
         try {
             MazeSquarePanel clickedPanel = (MazeSquarePanel) e.getSource();
-            GridPosition position = panelGrid.positionOf(clickedPanel);
-            gameUI.handleClickAt(position);
+            gameUI.handleClickAt(clickedPanel.getPosition(), clickNanos);
         } catch (ClassCastException cce) {
             System.out.println("Click on maze panel could not be cast properly");
             crashProcedure(cce);
@@ -65,7 +60,13 @@ public class MazeUIPanel extends JPanel {
         }
     }
 
+    @Override
+    public JComponent getComponent() {
+        return this;
+    }
+
     // EFFECTS: updates maze display
+    @Override
     public void updateDisplay(Grid<SquareDisplayData> displayData) {
         if (panelGrid.getWidth() != displayData.getWidth() || panelGrid.getHeight() != displayData.getHeight()) {
             crashProcedure(new IllegalArgumentException(String.format(
@@ -90,6 +91,19 @@ public class MazeUIPanel extends JPanel {
 //        }
     }
 
+    // EFFECTS: updates display of only the squares at given positions, with their new display data
+    //          (see GameModel.getDisplayChanges), leaving all other squares as they are
+    @Override
+    public void updateSquares(Map<GridPosition, SquareDisplayData> changes) {
+        try {
+            for (Map.Entry<GridPosition, SquareDisplayData> change : changes.entrySet()) {
+                panelGrid.get(change.getKey()).updateDisplay(change.getValue());
+            }
+        } catch (RuntimeException e) {
+            crashProcedure(e);
+        }
+    }
+
     private void crashProcedure(RuntimeException e) {
         gameUI.crashProcedure(e);
     }
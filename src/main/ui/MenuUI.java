@@ -7,7 +7,6 @@ import model.MazeListModel;
 import model.MazeModel;
 import model.MazeSizeModel;
 import persistence.Reader;
-import persistence.Writer;
 
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
@@ -18,22 +17,22 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 public class MenuUI extends JPanel implements ListSelectionListener {
-    private static final String SAVE_FILE = "./data/mazeSaveFile.txt";
+    // mazes are saved in binary format to their own file, so a text format save file is never overwritten
+    private static final String SAVE_FILE = "./data/mazeSaveFile.bin";
+    private static final String TEXT_SAVE_FILE = "./data/mazeSaveFile.txt";
     private static final String DEFAULT_SAVE_FILE = "./data/defaults/mazeDefaultData.txt";
+    private static final String JOURNAL_FILE = "./data/mazeSaveFile.journal";
+    private static final String PROTOTYPE_MAZE_NAME = "A Typically Long Maze Name";
     private static final String CREATE_STRING = "New Maze";
     private static final String DELETE_STRING = "Delete Maze";
     private static final String START_GAME_STRING = "Start Game";
     private static final String SAVE_STRING = "Save Mazes";
     private static final String LOAD_STRING = "Load Mazes";
 
-    private JList list;
+    private JList<MazeModel> list;
     private Minoquar minoquarFrame;
     private JButton createButton;
     private JButton deleteButton;
@@ -44,62 +43,76 @@ public class MenuUI extends JPanel implements ListSelectionListener {
     // TODO: implement chooser for all maze sizes
     // for now, just create xs size mazes
 
+    private JProgressBar progressBar;
+
     private MazeListModel mazeList;
+    private PersistenceService persistenceService;
 
     // EFFECTS: creates the maze menu's UI panel in app window
     public MenuUI(Minoquar minoquarFrame) {
         super(new BorderLayout());
         this.minoquarFrame = minoquarFrame;
+        this.mazeList = new MazeListModel();
+        // menu only needs maze names and stats, layouts are built when a maze is played
+        Reader.setLazyLayouts(true);
+        createListUI();
+        this.persistenceService = new PersistenceService(mazeList, progressBar, this::mazesLoaded,
+                new File(SAVE_FILE),
+                Arrays.asList(new File(SAVE_FILE), new File(TEXT_SAVE_FILE), new File(DEFAULT_SAVE_FILE)),
+                new File(JOURNAL_FILE));
         try {
-            this.mazeList = new MazeListModel(loadMazes());
+            loadMazes();
         } catch (IllegalArgumentException e) {
             minoquarFrame.crashProcedure(e);
         }
-        createListUI();
 //        runApp();
     }
 
-    // EFFECTS: returns list of mazes loaded from memory
-    private List<MazeModel> loadMazes() {
+    // MODIFIES: this
+    // EFFECTS: starts loading mazes from memory into maze list, in background
+    //          tries save file, then text format save file, then default save file, then creates blank maze list
+    private void loadMazes() {
         System.out.println("Attempting to load mazes");
-        try {
-            return Reader.readMazeList(new File(SAVE_FILE));
-        } catch (IOException e) {
-            System.out.println("Could not read save file");
-            System.out.println("Trying default maze list");
-            try {
-                return Reader.readMazeList(new File(DEFAULT_SAVE_FILE));
-//                mazeList = new MazeListModel(Reader.readMazeList(new File(DEFAULT_SAVE_FILE)));
-            } catch (IOException defaultE) {
-                System.out.println("Could not read default save file");
-                System.out.println("Creating blank maze list");
-                return new ArrayList<MazeModel>();
-            }
+        persistenceService.requestLoad();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: selects first maze once maze list has been loaded
+    private void mazesLoaded() {
+        if (mazeList.getSize() > 0) {
+            list.setSelectedIndex(0);
+            list.ensureIndexIsVisible(0);
         }
     }
 
-    // EFFECTS: saves maze list state to SAVE_FILE
+    // EFFECTS: starts saving maze list state to SAVE_FILE, in background
+    //          uses binary format; a text format save file is left as it is, and only loaded if there is no
+    //          binary save file yet
     protected void saveMazes() {
-        try {
-            Writer writer = new Writer(new File(SAVE_FILE));
-            writer.write(mazeList);
-            writer.close();
-            System.out.printf("Mazes saved to file %s%n", SAVE_FILE);
-        } catch (FileNotFoundException e) {
-            System.out.printf("Unable to save mazes to file%s%n. Check if file exists.", SAVE_FILE);
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
-        }
+        persistenceService.requestSave();
+    }
+
+    // EFFECTS: saves maze list state to SAVE_FILE now, waiting for any save in progress (used when app quits)
+    protected void saveMazesAndWait() {
+        persistenceService.saveAndWait();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves outcome of game (already registered to maze)
+    protected void saveOutcome(MazeModel maze, MazeModel.Outcome outcome) {
+        persistenceService.saveOutcome(maze, outcome);
     }
 
     // MODIFIES: this
     // EFFECTS: creates list of mazes and puts it in a scroll pane
     private void createListUI() {
-        list = new JList(mazeList);
+        list = new JList<>(mazeList);
         list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         list.setSelectedIndex(0);
         list.addListSelectionListener(this);
         list.setVisibleRowCount(8);
+        // fixed cell size means only visible mazes are read to render list, so unparsed mazes stay unparsed
+        list.setPrototypeCellValue(new MazeModel(PROTOTYPE_MAZE_NAME, MazeSizeModel.MazeSize.EXTRA_LARGE));
 
         JScrollPane listScrollPane = new JScrollPane(list);
         JPanel controlPane = createControlPane();
@@ -125,6 +138,8 @@ public class MenuUI extends JPanel implements ListSelectionListener {
         addUIControlSeparator(bottomControlPane, 5);
         bottomControlPane.add(saveButton);
         bottomControlPane.add(loadButton);
+        addUIControlSeparator(bottomControlPane, 5);
+        bottomControlPane.add(progressBar);
 
         JPanel controlPane = new JPanel();
         controlPane.setLayout(new BoxLayout(controlPane, BoxLayout.PAGE_AXIS));
@@ -155,6 +170,10 @@ public class MenuUI extends JPanel implements ListSelectionListener {
         setupButton(saveButton, saveListener, SAVE_STRING, true);
         setupButton(loadButton, loadListener, LOAD_STRING, true);
 
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setVisible(false);
+
         mazeName = new JTextField(10);
         mazeName.addActionListener(createListener);
         mazeName.getDocument().addDocumentListener(createListener);
@@ -209,6 +228,7 @@ public class MenuUI extends JPanel implements ListSelectionListener {
 
             try {
                 mazeList.createRandomMaze(index, name, MazeSizeModel.MazeSize.EXTRA_SMALL);
+                persistenceService.markListChanged();
             } catch (IllegalArgumentException ex) {
                 minoquarFrame.crashProcedure(ex);
             }
@@ -276,6 +296,7 @@ public class MenuUI extends JPanel implements ListSelectionListener {
             int index = list.getSelectedIndex();
             try {
                 mazeList.deleteMaze(index);
+                persistenceService.markListChanged();
             } catch (IndexOutOfBoundsException ex) {
                 System.out.printf("Index %d out of maze list bounds\n", index);
                 ex.printStackTrace();
@@ -321,7 +342,7 @@ public class MenuUI extends JPanel implements ListSelectionListener {
         // EFFECTS: processes button press, loads maze list from file
         @Override
         public void actionPerformed(ActionEvent e) {
-            mazeList.updateMazeList(loadMazes());
+            loadMazes();
         }
     }
 
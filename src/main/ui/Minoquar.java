@@ -33,7 +33,7 @@ public class Minoquar extends JFrame {
 
     // EFFECTS: complete any actions that need to be done when app is closed (i.e. file save)
     private void exitProcedure() {
-        menuUI.saveMazes();
+        menuUI.saveMazesAndWait();
         dispose();
         System.exit(0);
     }
@@ -61,6 +61,11 @@ public class Minoquar extends JFrame {
         pack();
     }
 
+    // EFFECTS: saves outcome of game on given maze (already registered to maze)
+    public void saveOutcome(MazeModel mazeModel, MazeModel.Outcome outcome) {
+        menuUI.saveOutcome(mazeModel, outcome);
+    }
+
     // MODIFIES: this
     // EFFECTS: swaps UI to menu mode
     public void swapToMenuUI() {
@@ -0,0 +1,394 @@
+package ui;
+
+import model.MazeListModel;
+import model.MazeModel;
+import persistence.BinaryReader;
+import persistence.BinaryWriter;
+import persistence.MazeLibrary;
+import persistence.OutcomeJournal;
+import persistence.Reader;
+
+import javax.swing.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+// saves and loads maze list on background threads (SwingWorker), so large save files don't freeze the UI
+// all public methods must be called on the event dispatch thread
+// only one save or load runs at a time, later requests are queued:
+//      - saves snapshot the maze list when they start, so queued save requests are coalesced into one
+//      - loads stream mazes into the maze list in batches, and replay the outcome journal once done
+// game outcomes are appended to an outcome journal right away, since each is one small write
+// the save file is rewritten (and journal compacted) once journal is long, or mazes were created / deleted
+public class PersistenceService {
+    private static final int LOAD_BATCH_SIZE = 64;
+    private static final int JOURNAL_COMPACTION_ENTRIES = 64;  // save file is rewritten once journal has this many
+
+    enum Task {
+        SAVE,
+        LOAD
+    }
+
+    private final MazeListModel mazeList;
+    private final JProgressBar progressBar;
+    private final Runnable loadedCallback;
+    private final File saveFile;
+    private final List<File> loadFiles;  // files to try loading maze list from, in order
+    private final File journalFile;
+    private OutcomeJournal journal;
+    // loaded is false while maze list is being loaded, as saving a partly loaded list would lose mazes
+    private boolean loaded = false;
+    // listChanges counts mazes created / deleted, savedListChanges is count when maze list was last saved or loaded
+    private int listChanges = 0;
+    private int savedListChanges = 0;
+    private SwingWorker<?, ?> runningTask = null;
+    private final Deque<Task> pendingTasks = new ArrayDeque<>();
+
+    // EFFECTS: constructs service that saves mazeList to saveFile, and loads it from first readable file in
+    //          loadFiles, journaling outcomes to journalFile
+    //          progressBar shows progress of running task, and loadedCallback is run on EDT after each load
+    public PersistenceService(MazeListModel mazeList, JProgressBar progressBar, Runnable loadedCallback,
+                              File saveFile, List<File> loadFiles, File journalFile) {
+        this.mazeList = mazeList;
+        this.progressBar = progressBar;
+        this.loadedCallback = loadedCallback;
+        this.saveFile = saveFile;
+        this.loadFiles = loadFiles;
+        this.journalFile = journalFile;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues a save of maze list, unless one is already queued
+    public void requestSave() {
+        requestTask(Task.SAVE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues a load of maze list, unless one is already queued
+    public void requestLoad() {
+        requestTask(Task.LOAD);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records that a maze was created or deleted, so maze list must be rewritten on next save
+    public void markListChanged() {
+        listChanges++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves outcome of game (already registered to maze) by appending it to outcome journal
+    //          journal entries hold maze's index, so outcome is only journaled if no mazes have been created /
+    //          deleted since journal's save file was written (otherwise save file is rewritten with outcome)
+    //          requests a save if outcome wasn't journaled, or journal is long
+    public void saveOutcome(MazeModel maze, MazeModel.Outcome outcome) {
+        int mazeIndex = mazeList.indexOf(maze);
+        boolean journaled = false;
+        if (journal != null && listChanges == savedListChanges && mazeIndex >= 0) {
+            try {
+                journal.append(mazeIndex, maze.getName(), outcome);
+                journaled = true;
+            } catch (IOException e) {
+                System.out.printf("Unable to write to journal file %s%n", journalFile.getPath());
+                closeJournal();
+            }
+        }
+        if (!journaled || journal.getEntryCount() >= JOURNAL_COMPACTION_ENTRIES) {
+            requestSave();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves maze list now, on this thread, waiting for any running save first (used when app quits)
+    //          queued tasks are dropped, and nothing is saved if maze list hasn't finished loading
+    public void saveAndWait() {
+        pendingTasks.clear();
+        if (runningTask != null) {
+            try {
+                runningTask.get();  // task's done() can't run while this thread waits, but its file work is done
+            } catch (InterruptedException | ExecutionException e) {
+                System.out.println("Background save or load failed before quitting");
+            }
+        }
+        if (!loaded) {
+            return;
+        }
+        try {
+            int savedEntries = journal == null ? 0 : journal.getEntryCount();
+            int checksum = writeSaveFile(
+                    saveFile, mazeList.getBinarySnapshot(), journal, savedEntries, progress -> { });
+            System.out.printf("Mazes saved to file %s%n", saveFile.getPath());
+            if (journal != null) {
+                journal.clear(checksum);
+                journal.close();
+            }
+        } catch (IOException e) {
+            System.out.printf("Unable to save mazes to file %s%n", saveFile.getPath());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues given task, unless it's already the last queued task, then starts it if nothing is running
+    private void requestTask(Task task) {
+        if (pendingTasks.peekLast() != task) {
+            pendingTasks.addLast(task);
+        }
+        startNextTask();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts next queued task, if there is one and no task is running
+    private void startNextTask() {
+        if (runningTask != null || pendingTasks.isEmpty()) {
+            return;
+        }
+        Task task = pendingTasks.removeFirst();
+        if (task == Task.LOAD) {
+            startLoad(0);
+        } else if (loaded) {
+            SaveWorker saveWorker = new SaveWorker();
+            startTask(saveWorker, "Saving mazes", false);
+        } else {
+            startNextTask();  // nothing safe to save yet
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: clears maze list and starts loading it from file with given index in loadFiles
+    //          if there are no more files to try, leaves maze list empty and starts next task
+    private void startLoad(int fileIndex) {
+        loaded = false;
+        closeJournal();
+        mazeList.updateMazeList(new ArrayList<>());
+        if (fileIndex < loadFiles.size()) {
+            startTask(new LoadWorker(fileIndex), "Loading mazes", true);
+        } else {
+            System.out.println("Creating blank maze list");
+            finishLoad(null, null);
+            markListChanged();
+            finishTask();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows progress bar for given task, and runs it
+    //          progress bar is indeterminate if task's length isn't known in advance
+    private void startTask(SwingWorker<?, ?> task, String description, boolean indeterminate) {
+        runningTask = task;
+        progressBar.setIndeterminate(indeterminate);
+        progressBar.setValue(0);
+        progressBar.setString(description);
+        progressBar.setVisible(true);
+        task.addPropertyChangeListener(event -> {
+            if ("progress".equals(event.getPropertyName())) {
+                progressBar.setValue((Integer) event.getNewValue());
+            }
+        });
+        task.execute();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: hides progress bar, then starts next queued task
+    private void finishTask() {
+        runningTask = null;
+        progressBar.setVisible(false);
+        startNextTask();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks maze list as loaded from given file (null if no file could be loaded),
+    //          replaying outcome journal if it follows file with given checksum
+    private void finishLoad(File file, Integer checksum) {
+        loaded = true;
+        savedListChanges = listChanges;
+        if (file != null) {
+            System.out.printf("Mazes loaded from file %s%n", file.getPath());
+            openJournal(checksum);
+        }
+        loadedCallback.run();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens outcome journal, replaying its outcomes onto maze list if it follows save file with
+    //          given checksum; if journal can't be opened, outcomes are saved by rewriting save file instead
+    private void openJournal(int saveFileChecksum) {
+        closeJournal();
+        try {
+            journal = OutcomeJournal.open(journalFile, saveFileChecksum, mazeList);
+        } catch (IOException e) {
+            System.out.printf("Unable to open journal file %s%n", journalFile.getPath());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes outcome journal, if open
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.out.printf("Unable to close journal file %s%n", journalFile.getPath());
+            }
+            journal = null;
+        }
+    }
+
+    // MODIFIES: journal
+    // EFFECTS: writes given records to file in binary save format, reporting percent of records written to progress
+    //          before file is replaced, marks it in journal (if not null) as pending save holding first savedEntries
+    //          entries, so a crash before journal is compacted can't drop entries written after records were taken
+    //          returns checksum of written file
+    //          throws IOException if raised while writing (save file is then left as it was, with no temporary file)
+    private static int writeSaveFile(File file, List<byte[]> records, OutcomeJournal journal, int savedEntries,
+                                     IntConsumer progress) throws IOException {
+        try (BinaryWriter writer = new BinaryWriter(file)) {
+            writer.write(dataOutputStream -> {
+                dataOutputStream.writeInt(records.size());
+                for (int i = 0; i < records.size(); i++) {
+                    BinaryWriter.writeRecord(dataOutputStream, records.get(i));
+                    progress.accept((i + 1) * 100 / records.size());
+                }
+            });
+            if (journal != null) {
+                journal.prepareForSave(writer.getFileChecksum(), savedEntries);
+            }
+            writer.commit();
+            return writer.getFileChecksum();
+        }
+    }
+
+    // saves snapshot of maze list taken when worker is constructed, then compacts journal on EDT
+    // journal is marked from worker's thread while games may be journaled on EDT (OutcomeJournal is synchronized)
+    private class SaveWorker extends SwingWorker<Integer, Void> {
+        private final List<byte[]> records;
+        private final OutcomeJournal snapshotJournal;
+        private final int savedEntries;
+        private final int listChangesAtSnapshot;
+
+        // EFFECTS: constructs worker, taking snapshot of maze list and journal length (must be on EDT)
+        SaveWorker() {
+            this.records = mazeList.getBinarySnapshot();
+            this.snapshotJournal = journal;
+            this.savedEntries = journal == null ? 0 : journal.getEntryCount();
+            this.listChangesAtSnapshot = listChanges;
+        }
+
+        // EFFECTS: writes snapshot to save file, returns checksum of written file
+        @Override
+        protected Integer doInBackground() throws IOException {
+            return writeSaveFile(saveFile, records, snapshotJournal, savedEntries, this::setProgress);
+        }
+
+        // MODIFIES: PersistenceService.this
+        // EFFECTS: drops journal entries now in save file, then starts next task
+        @Override
+        protected void done() {
+            try {
+                int checksum = get();
+                System.out.printf("Mazes saved to file %s%n", saveFile.getPath());
+                savedListChanges = listChangesAtSnapshot;
+                if (journal == null) {
+                    openJournal(checksum);  // starts empty, as journal can't follow new save file
+                } else {
+                    journal.compact(checksum, savedEntries);
+                }
+            } catch (InterruptedException | ExecutionException | IOException e) {
+                System.out.printf("Unable to save mazes to file %s%n", saveFile.getPath());
+            }
+            finishTask();
+        }
+    }
+
+    // reads one file into maze list, in batches, then replays journal on EDT
+    // if file can't be read, maze list is cleared again, and next file in loadFiles is tried
+    // batches are handed over in a queue, and only the running count is published: process() may run after done(),
+    // so done() also takes any batches left in queue, to be sure list is complete before journal is replayed
+    private class LoadWorker extends SwingWorker<Integer, Integer> {
+        private final int fileIndex;
+        private final File file;
+        private final Queue<List<MazeModel>> batches = new ConcurrentLinkedQueue<>();
+        private MazeLibrary library = null;  // set if file is a binary save file
+        private int mazesRead = 0;
+
+        // EFFECTS: constructs worker to load file with given index in loadFiles
+        LoadWorker(int fileIndex) {
+            this.fileIndex = fileIndex;
+            this.file = loadFiles.get(fileIndex);
+        }
+
+        // EFFECTS: reads file, publishing mazes in batches (binary save files are opened as a MazeLibrary instead,
+        //          since that is already quick), returns checksum of file
+        @Override
+        protected Integer doInBackground() throws IOException {
+            if (BinaryReader.isBinarySaveFile(file)) {
+                library = MazeLibrary.open(file);
+            } else {
+                try (Stream<MazeModel> mazes = Reader.streamMazeList(file)) {
+                    List<MazeModel> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+                    mazes.forEachOrdered(maze -> {
+                        batch.add(maze);
+                        if (batch.size() == LOAD_BATCH_SIZE) {
+                            handOver(batch);
+                        }
+                    });
+                    handOver(batch);
+                }
+            }
+            return OutcomeJournal.checksumFile(file);
+        }
+
+        // MODIFIES: this, batch
+        // EFFECTS: queues copy of batch to be added to maze list, then empties batch
+        private void handOver(List<MazeModel> batch) {
+            batches.add(new ArrayList<>(batch));
+            mazesRead += batch.size();
+            publish(mazesRead);
+            batch.clear();
+        }
+
+        // MODIFIES: mazeList
+        // EFFECTS: adds queued batches to maze list, and shows number of mazes read so far
+        @Override
+        protected void process(List<Integer> mazesReadCounts) {
+            addQueuedBatches();
+            int latestCount = mazesReadCounts.get(mazesReadCounts.size() - 1);
+            progressBar.setString(String.format("Loading mazes (%d read)", latestCount));
+        }
+
+        // MODIFIES: mazeList
+        // EFFECTS: adds each queued batch of mazes to maze list (one interval per batch)
+        private void addQueuedBatches() {
+            List<MazeModel> batch = batches.poll();
+            while (batch != null) {
+                mazeList.addMazes(batch);
+                batch = batches.poll();
+            }
+        }
+
+        // MODIFIES: PersistenceService.this
+        // EFFECTS: finishes load if file was read, tries next file if not, then starts next task
+        @Override
+        protected void done() {
+            addQueuedBatches();
+            try {
+                int checksum = get();
+                if (library != null) {
+                    mazeList.updateMazeList(library);
+                }
+                finishLoad(file, checksum);
+                finishTask();
+            } catch (InterruptedException | ExecutionException e) {
+                System.out.printf("Could not read file %s%n", file.getPath());
+                runningTask = null;
+                startLoad(fileIndex + 1);
+            }
+        }
+    }
+}
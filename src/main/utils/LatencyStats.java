@@ -0,0 +1,88 @@
+package utils;
+
+import java.util.Arrays;
+
+// running statistics of measured latencies (in nanoseconds): count, mean, max, and percentiles of recent samples
+// keeps the most recent RECENT_SAMPLES samples in a ring buffer, so recording never allocates, and percentiles
+// follow current behaviour instead of whole history
+// not thread safe: intended to be recorded to and read from one thread (i.e. Swing's event dispatch thread)
+public class LatencyStats {
+    public static final int RECENT_SAMPLES = 256;
+
+    private final long[] recent;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+    private long lastNanos;
+
+    // EFFECTS: construct stats with no samples
+    public LatencyStats() {
+        this.recent = new long[RECENT_SAMPLES];
+    }
+
+    // REQUIRES: nanos >= 0
+    // MODIFIES: this
+    // EFFECTS: records one latency sample of given length
+    public void record(long nanos) {
+        recent[(int) (count % RECENT_SAMPLES)] = nanos;
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        lastNanos = nanos;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records one latency sample, from given System.nanoTime start to now
+    public void recordSince(long startNanos) {
+        record(Math.max(0, System.nanoTime() - startNanos));
+    }
+
+    // EFFECTS: returns System.nanoTime time of given event time (milliseconds since epoch, e.g. AWTEvent.getWhen),
+    //          so latency can be recorded from when event happened, including time it waited to be dispatched
+    //          accurate to clock's millisecond resolution; event times in future are taken as now
+    public static long nanoTimeOf(long eventMillis) {
+        long elapsedMillis = Math.max(0, System.currentTimeMillis() - eventMillis);
+        return System.nanoTime() - elapsedMillis * 1_000_000L;
+    }
+
+    // EFFECTS: returns number of samples recorded
+    public long getCount() {
+        return count;
+    }
+
+    // EFFECTS: returns most recent sample, or 0 if none have been recorded
+    public long getLastNanos() {
+        return lastNanos;
+    }
+
+    // EFFECTS: returns longest sample, or 0 if none have been recorded
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    // EFFECTS: returns mean of all samples, or 0 if none have been recorded
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    // REQUIRES: 0 <= percentile <= 100
+    // EFFECTS: returns given percentile of recent samples (nearest rank), or 0 if none have been recorded
+    public long getRecentPercentileNanos(double percentile) {
+        int size = (int) Math.min(count, RECENT_SAMPLES);
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(recent, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    // EFFECTS: returns one line summary of samples: count, median and 99th percentile of recent samples, and max,
+    //          all times in milliseconds
+    @Override
+    public String toString() {
+        return String.format("%d samples, p50 %.3f ms, p99 %.3f ms, max %.3f ms", count,
+                getRecentPercentileNanos(50) / 1e6, getRecentPercentileNanos(99) / 1e6, maxNanos / 1e6);
+    }
+}
@@ -0,0 +1,142 @@
+package grid;
+
+import exceptions.GridPositionOutOfBoundsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumGridArrayTest {
+    private enum Colour {
+        RED,
+        GREEN,
+        BLUE
+    }
+
+    private static final Colour R = Colour.RED;
+    private static final Colour G = Colour.GREEN;
+    private static final Colour B = Colour.BLUE;
+    private static final GridPosition ORIGIN = new GridPosition(0, 0);
+
+    private Grid<Colour> nullGrid;
+    private Grid<Colour> colourGrid;
+
+    @BeforeEach
+    void beforeEach() {
+        nullGrid = new EnumGridArray<>(Colour.class, 3);
+        colourGrid = new EnumGridArray<>(Colour.class, 3, 2, new ArrayList<>(Arrays.asList(
+                R, G, B,
+                B, null, R)));
+    }
+
+    @Test
+    void testInit() {
+        assertEquals(3, nullGrid.getWidth());
+        assertEquals(3, nullGrid.getHeight());
+        assertEquals(3, colourGrid.getWidth());
+        assertEquals(2, colourGrid.getHeight());
+        for (Colour colour : nullGrid) {
+            assertNull(colour);
+        }
+    }
+
+    @Test
+    void testInitException() {
+        try {
+            new EnumGridArray<>(Colour.class, 2, 2, Arrays.asList(R, G, B));
+            fail("Exception expected, data size doesn't match grid");
+        } catch (IllegalArgumentException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    void testCopy() {
+        EnumGridArray<Colour> copy = new EnumGridArray<>((EnumGridArray<Colour>) colourGrid);
+        assertEquals(colourGrid, copy);
+        copy.set(ORIGIN, B);
+        assertEquals(B, copy.get(ORIGIN));
+        assertEquals(R, colourGrid.get(ORIGIN));
+        assertNotEquals(colourGrid, copy);
+    }
+
+    @Test
+    void testGetAndSet() {
+        assertEquals(R, colourGrid.get(ORIGIN));
+        assertNull(colourGrid.get(new GridPosition(1, 1)));
+        assertEquals(R, colourGrid.get(new GridPosition(2, 1)));
+        colourGrid.set(new GridPosition(1, 1), G);
+        assertEquals(G, colourGrid.get(new GridPosition(1, 1)));
+        colourGrid.set(ORIGIN, null);
+        assertNull(colourGrid.get(ORIGIN));
+    }
+
+    @Test
+    void testGetSetException() {
+        try {
+            colourGrid.get(new GridPosition(3, 0));
+            fail("Exception expected, checking out of bounds");
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+        try {
+            colourGrid.set(new GridPosition(0, -1), R);
+            fail("Exception expected, checking out of bounds");
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    void testGetRow() {
+        EnumGridArray<Colour> grid = (EnumGridArray<Colour>) colourGrid;
+        assertEquals(Arrays.asList(R, G, B), grid.getRow(0));
+        assertEquals(Arrays.asList(B, null, R), grid.getRow(1));
+        try {
+            grid.getRow(2);
+            fail("Exception expected, row is out of bounds");
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    void testContainsAndPositionOf() {
+        assertTrue(colourGrid.contains(B));
+        assertTrue(colourGrid.contains(null));
+        assertFalse(nullGrid.contains(R));
+        assertEquals(new GridPosition(2, 0), colourGrid.positionOf(B));
+        assertEquals(new GridPosition(1, 1), colourGrid.positionOf(null));
+        assertEquals(new GridPosition(-1, -1), nullGrid.positionOf(G));
+    }
+
+    @Test
+    void testEqualsGridArray() {
+        List<Colour> data = Arrays.asList(
+                R, G, B,
+                B, null, R);
+        Grid<Colour> gridArray = new GridArray<>(3, 2, new ArrayList<>(data));
+        assertEquals(gridArray, colourGrid);
+        assertEquals(colourGrid, gridArray);
+        assertEquals(gridArray.hashCode(), colourGrid.hashCode());
+        colourGrid.set(ORIGIN, B);
+        assertNotEquals(gridArray, colourGrid);
+    }
+
+    @Test
+    void testSubGridSet() {
+        Grid<Colour> subGrid = colourGrid.subGrid(new GridPosition(1, 0), new GridPosition(2, 1));
+        GridIterator<Colour> iterator = subGrid.gridCellIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.set(G);
+        }
+        assertEquals(new EnumGridArray<>(Colour.class, 3, 2, Arrays.asList(
+                R, G, G,
+                B, G, G)), colourGrid);
+    }
+}
@@ -111,6 +111,42 @@ class GridArrayTest {
 
     }
 
+    @Test
+    void testGetByCoordinatesAndIndex() {
+        assertEquals("A", stringGrid.get(0, 0));
+        assertEquals("H", stringGrid.get(2, 1));
+        assertEquals("O", stringGrid.get(4, 2));
+        assertEquals("A", stringGrid.get(0));
+        assertEquals("H", stringGrid.get(7));
+        assertEquals("O", stringGrid.get(14));
+        Grid<String> subGrid = stringGrid.subGrid(new GridPosition(1, 1), new GridPosition(3, 2));
+        assertEquals("G", subGrid.get(0, 0));
+        assertEquals("N", subGrid.get(2, 1));
+        assertEquals("L", subGrid.get(3));
+        stringGrid.set(2, 1, "Z");
+        assertEquals("Z", stringGrid.get(new GridPosition(2, 1)));
+        subGrid.set(0, 1, "Y");
+        assertEquals("Y", stringGrid.get(1, 2));
+        getCoordinatesExceptionThrownCase(stringGrid, -1, 0);
+        getCoordinatesExceptionThrownCase(stringGrid, 5, 0);
+        getCoordinatesExceptionThrownCase(subGrid, 3, 0);
+        try {
+            stringGrid.get(15);
+            fail(String.format("%s, checking index out of bounds", FAIL_IF_NO_EXCEPTION));
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    private <T> void getCoordinatesExceptionThrownCase(Grid<T> grid, int x, int y) {
+        try {
+            grid.get(x, y);
+            fail(String.format("%s, checking out of bounds", FAIL_IF_NO_EXCEPTION));
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
     @Test
     void testGetException() {
         getExceptionThrownCase(stringGrid, new GridPosition(-1, -1));
@@ -211,6 +247,44 @@ class GridArrayTest {
         }
     }
 
+    @Test
+    void testGetRowIsUnmodifiableView() {
+        GridArray<String> grid = (GridArray<String>) stringGrid;
+        List<String> row = grid.getRow(1);
+        grid.set(new GridPosition(2, 1), "Z");
+        assertEquals(Arrays.asList("F", "G", "Z", "I", "J"), row);
+        rowIsUnmodifiableCase(row);
+        AbstractGrid<String> subGrid =
+                (AbstractGrid<String>) stringGrid.subGrid(new GridPosition(1, 1), new GridPosition(3, 2));
+        List<String> subGridRow = subGrid.getRow(0);
+        assertEquals(Arrays.asList("G", "Z", "I"), subGridRow);
+        assertEquals(new ArrayList<>(Arrays.asList("G", "Z", "I")).hashCode(), subGridRow.hashCode());
+        grid.set(new GridPosition(1, 1), "Y");
+        assertEquals("Y", subGridRow.get(0));
+        rowIsUnmodifiableCase(subGridRow);
+        try {
+            subGridRow.get(3);
+            fail(String.format("%s, index is past end of row", FAIL_IF_NO_EXCEPTION));
+        } catch (IndexOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    private void rowIsUnmodifiableCase(List<String> row) {
+        try {
+            row.remove(0);
+            fail(String.format("%s, row should not be modifiable", FAIL_IF_NO_EXCEPTION));
+        } catch (UnsupportedOperationException e) {
+            // expected exception
+        }
+        try {
+            row.set(0, "X");
+            fail(String.format("%s, row should not be modifiable", FAIL_IF_NO_EXCEPTION));
+        } catch (UnsupportedOperationException e) {
+            // expected exception
+        }
+    }
+
     @Test
     void testSubGrid() {
         subGridFailOnExceptionCase(
@@ -600,6 +674,39 @@ class GridArrayTest {
         assertNotEquals(gridOne.hashCode(), gridHeightMismatch.hashCode());
     }
 
+    @Test
+    void testHashCodeUpdatesAfterSet() {
+        GridArray<Integer> gridCopy = new GridArray<>(3, 3, new ArrayList<>(Arrays.asList(
+                1, 2, 3,
+                4, 5, 6,
+                7, 8, 9
+        )));
+        int originalHashCode = intSquareGrid.hashCode();
+        assertEquals(originalHashCode, gridCopy.hashCode());
+        gridCopy.set(1, 1, 0);
+        assertNotEquals(originalHashCode, gridCopy.hashCode());
+        assertNotEquals(intSquareGrid, gridCopy);
+        gridCopy.set(1, 1, 5);
+        assertEquals(originalHashCode, gridCopy.hashCode());
+        assertEquals(intSquareGrid, gridCopy);
+    }
+
+    @Test
+    void testHashCodeUpdatesAfterSubGridSet() {
+        Grid<Integer> subGrid = intSquareGrid.subGrid(new GridPosition(1, 1), new GridPosition(2, 2));
+        int gridHashCode = intSquareGrid.hashCode();
+        int subGridHashCode = subGrid.hashCode();
+        subGrid.set(ORIGIN, 0);
+        assertEquals(0, intSquareGrid.get(1, 1));
+        assertNotEquals(gridHashCode, intSquareGrid.hashCode());
+        assertNotEquals(subGridHashCode, subGrid.hashCode());
+        intSquareGrid.set(2, 2, 0);
+        assertEquals(new GridArray<>(2, 2, new ArrayList<>(Arrays.asList(
+                0, 6,
+                8, 0
+        ))), subGrid);
+    }
+
     @Test
     void testContains() {
         assertTrue(intSquareGrid.contains(5));
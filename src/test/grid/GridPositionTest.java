@@ -88,4 +88,22 @@ public class GridPositionTest {
         assertEquals(position.hashCode(), other.hashCode());
     }
 
+    @Test
+    void testOf() {
+        // in cache range: same instance each time, equal to constructed position
+        GridPosition cached = GridPosition.of(posX, posY);
+        assertSame(cached, GridPosition.of(posX, posY));
+        assertEquals(position, cached);
+        int last = GridPosition.CACHE_SIDE_LENGTH - 1;
+        assertSame(GridPosition.of(last, last), GridPosition.of(last, last));
+        // out of cache range: still correct, just not shared
+        GridPosition negative = GridPosition.of(-1, 3);
+        assertEquals(new GridPosition(-1, 3), negative);
+        GridPosition large = GridPosition.of(GridPosition.CACHE_SIDE_LENGTH, 0);
+        assertEquals(GridPosition.CACHE_SIDE_LENGTH, large.getX());
+        assertEquals(0, large.getY());
+        // add and subtract use cache when result is in range
+        assertSame(GridPosition.of(posX + 1, posY), position.add(new GridPosition(1, 0)));
+        assertSame(GridPosition.of(0, 0), position.subtract(position));
+    }
 }
@@ -15,7 +15,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -183,6 +187,31 @@ public class GameModelTest {
                 });
     }
 
+    @Test
+    public void testGetDisplayChanges() {
+        MazeModel maze = new MazeModel("display changes", MazeSizeModel.MazeSize.MEDIUM, 3L);
+        GameModel diffGame = new GameModel(maze, 3L);
+        assertTrue(diffGame.getDisplayChanges().isEmpty());
+        Grid<SquareDisplayData> display = diffGame.display();
+        SplittableRandom random = new SplittableRandom(3L);
+        for (int turn = 0; turn < 20 && !diffGame.checkForWin() && !diffGame.checkForLoss(); turn++) {
+            List<GridPosition> moves = maze.getAllValidMoves(diffGame.getHeroPosition());
+            assertTrue(diffGame.moveHero(moves.get(random.nextInt(moves.size()))));
+            diffGame.moveMinotaur();
+            Map<GridPosition, SquareDisplayData> changes = diffGame.getDisplayChanges();
+            assertTrue(changes.size() <= 6);
+            for (Map.Entry<GridPosition, SquareDisplayData> change : changes.entrySet()) {
+                assertNotEquals(display.get(change.getKey()), change.getValue());
+                display.set(change.getKey(), change.getValue());
+            }
+            assertTrue(diffGame.getDisplayChanges().isEmpty());
+            Grid<SquareDisplayData> expected = diffGame.display();
+            for (int i = 0; i < maze.getSideLength() * maze.getSideLength(); i++) {
+                assertEquals(expected.get(i), display.get(i));
+            }
+        }
+    }
+
     @Test
     public void testMoveMinotaurOrthogonal() {
         // orthogonal tests
@@ -225,6 +254,25 @@ public class GameModelTest {
                 new GridPosition(-4, 0));
     }
 
+    @Test
+    public void testMoveMinotaurSeeded() {
+        // hero 1 square up, 1 square right of minotaur: minotaur's random choice comes from game's seed
+        MazeModel maze = generateTestData(MOVE_TESTS_FILE);
+        assertNotNull(maze);
+        GridPosition heroStart = maze.getMinotaurStartPosition().add(new GridPosition(1, -1));
+        Set<GridPosition> minotaurEnds = new HashSet<>();
+        for (long seed = 0; seed < 10; seed++) {
+            GameModel gameOne = new GameModel(maze, heroStart, seed);
+            GameModel gameTwo = new GameModel(maze, heroStart, seed);
+            assertTrue(gameOne.moveMinotaur());
+            assertTrue(gameTwo.moveMinotaur());
+            assertEquals(gameOne.getMinotaurPosition(), gameTwo.getMinotaurPosition());
+            minotaurEnds.add(gameOne.getMinotaurPosition());
+        }
+        // different seeds still make different choices
+        assertEquals(2, minotaurEnds.size());
+    }
+
     @Test
     public void testMoveMinotaurInvalid() {
         MazeModel maze = generateTestData(NO_VALID_MOVES_TEST_FILE);
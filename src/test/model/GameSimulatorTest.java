@@ -0,0 +1,98 @@
+package model;
+
+import exceptions.InvalidMazeSaveDataException;
+import grid.GridPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSimulatorTest {
+    static final String TEST_NAME = "testmaze";
+    static final MazeSizeModel.MazeSize TEST_SIZE = MazeSizeModel.MazeSize.EXTRA_SMALL;
+    static final int GAMES_PER_MAZE = 10;
+
+    @Test
+    public void testSimulate() {
+        GameSimulator.SimulationResult result = new GameSimulator(HeroPolicies.random())
+                .simulate(createMazes(), GAMES_PER_MAZE, 42L);
+        assertEquals(4 * GAMES_PER_MAZE, result.getGames());
+        assertEquals(result.getGames(), result.getWins() + result.getLosses() + result.getUnfinished());
+        assertEquals((double) result.getWins() / result.getGames(), result.getWinRate());
+        assertTrue(result.getAverageTurns() >= 1);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(GAMES_PER_MAZE, result.getWins(i) + result.getLosses(i) + result.getUnfinished(i));
+        }
+        // same seed plays same games, however mazes are shared between workers
+        GameSimulator.SimulationResult sameSeed = new GameSimulator(HeroPolicies.random())
+                .simulate(createMazes(), GAMES_PER_MAZE, 42L);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(result.getWins(i), sameSeed.getWins(i));
+            assertEquals(result.getLosses(i), sameSeed.getLosses(i));
+            assertEquals(result.getWinRate(i), sameSeed.getWinRate(i));
+        }
+        assertEquals(result.getAverageTurns(), sameSeed.getAverageTurns());
+    }
+
+    @Test
+    public void testSimulateWins() throws InvalidMazeSaveDataException {
+        GridPosition heroStart = MazeSizeModel.getHeroStartPosition(TEST_SIZE);
+        GridPosition treasure = MazeSizeModel.getTreasurePosition(TEST_SIZE);
+        // minotaur can't move, since nothing else is in its row or column
+        MazeModel maze = new MazeModel(TEST_NAME, TEST_SIZE, new ArrayList<>(), buildLayout(Arrays.asList(
+                heroStart, treasure, new GridPosition(heroStart.getX(), treasure.getY()), new GridPosition(12, 12))));
+        GameSimulator.SimulationResult result = new GameSimulator(HeroPolicies.greedy())
+                .simulate(Collections.singletonList(maze), GAMES_PER_MAZE, 0L);
+        assertEquals(GAMES_PER_MAZE, result.getWins());
+        assertEquals(1.0, result.getWinRate(0));
+        assertEquals(2.0, result.getAverageTurns());
+    }
+
+    @Test
+    public void testSimulateUnfinished() {
+        // moving to hero's own position is never valid, so hero never moves and minotaur never gets a turn
+        HeroPolicy stayPut = (maze, game, random) -> game.getHeroPosition();
+        GameSimulator.SimulationResult result = new GameSimulator(stayPut, 5)
+                .simulate(createMazes(), GAMES_PER_MAZE, 0L);
+        assertEquals(4 * GAMES_PER_MAZE, result.getUnfinished());
+        assertEquals(0, result.getWins());
+        assertEquals(0, result.getLosses(0));
+        assertEquals(GAMES_PER_MAZE, result.getUnfinished(0));
+        assertEquals(5.0, result.getAverageTurns());
+    }
+
+    @Test
+    public void testSimulateNoMazes() {
+        GameSimulator.SimulationResult result = new GameSimulator(HeroPolicies.random())
+                .simulate(new ArrayList<>(), GAMES_PER_MAZE, 0L);
+        assertEquals(0, result.getGames());
+        assertEquals(0, result.getWinRate());
+        assertEquals(0, result.getAverageTurns());
+    }
+
+    private List<MazeModel> createMazes() {
+        List<MazeModel> mazes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            mazes.add(new MazeModel(TEST_NAME, TEST_SIZE, i));
+        }
+        return mazes;
+    }
+
+    // EFFECTS: returns saved layout of test size with only WALL squares, except given PASSAGE positions
+    private List<String> buildLayout(List<GridPosition> passages) {
+        int sideLength = MazeSizeModel.getSideLength(TEST_SIZE);
+        List<String> layout = new ArrayList<>();
+        for (int y = 0; y < sideLength; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < sideLength; x++) {
+                row.append(passages.contains(new GridPosition(x, y)) ? '.' : 'X');
+            }
+            layout.add(row.toString());
+        }
+        return layout;
+    }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import grid.GridPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStateTest {
+    static final String TEST_NAME = "testmaze";
+
+    @Test
+    public void testPacking() {
+        GridPosition hero = new GridPosition(7, 0);
+        GridPosition minotaur = new GridPosition(40, 3);
+        GridPosition treasure = new GridPosition(13, 40);
+        GameState state = GameState.of(hero, minotaur, treasure);
+        assertEquals(hero, state.getHeroPosition());
+        assertEquals(minotaur, state.getMinotaurPosition());
+        assertEquals(treasure, state.getTreasurePosition());
+        assertSame(GridPosition.of(7, 0), state.getHeroPosition());
+        GameState copy = GameState.fromPacked(state.toPacked());
+        assertEquals(state, copy);
+        assertEquals(state.hashCode(), copy.hashCode());
+        assertNotEquals(state, GameState.of(minotaur, hero, treasure));
+        assertFalse(state.isWon());
+        assertFalse(state.isLost());
+        assertTrue(GameState.of(hero, minotaur, hero).isWon());
+        assertTrue(GameState.of(hero, hero, treasure).isLost());
+    }
+
+    @Test
+    public void testStartOf() {
+        MazeModel maze = new MazeModel(TEST_NAME, MazeSizeModel.MazeSize.MEDIUM, 1L);
+        GameState state = GameState.startOf(maze);
+        assertEquals(maze.getHeroStartPosition(), state.getHeroPosition());
+        assertEquals(maze.getMinotaurStartPosition(), state.getMinotaurPosition());
+        assertEquals(maze.getTreasurePosition(), state.getTreasurePosition());
+        assertEquals(new GameModel(maze, 1L).getState(), state);
+    }
+
+    @Test
+    public void testMoveHero() {
+        MazeModel maze = new MazeModel(TEST_NAME, MazeSizeModel.MazeSize.MEDIUM, 2L);
+        GameState start = GameState.startOf(maze);
+        GridPosition move = maze.getAllValidMoves(start.getHeroPosition()).get(0);
+        GameState moved = start.moveHero(maze, move);
+        assertEquals(move, moved.getHeroPosition());
+        assertEquals(start.getMinotaurPosition(), moved.getMinotaurPosition());
+        assertEquals(start.getTreasurePosition(), moved.getTreasurePosition());
+        // original state is unchanged
+        assertEquals(maze.getHeroStartPosition(), start.getHeroPosition());
+        // invalid move
+        assertNull(start.moveHero(maze, start.getHeroPosition()));
+    }
+
+    @Test
+    public void testMatchesGameModel() {
+        for (long seed = 0; seed < 20; seed++) {
+            MazeModel maze = new MazeModel(TEST_NAME, MazeSizeModel.MazeSize.MEDIUM, seed);
+            GameModel game = new GameModel(maze, seed);
+            GameState state = GameState.startOf(maze);
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int turn = 0; turn < 50 && !state.isWon() && !state.isLost(); turn++) {
+                List<GridPosition> moves = maze.getAllValidMoves(state.getHeroPosition());
+                GridPosition move = moves.get(random.nextInt(moves.size()));
+                assertTrue(game.moveHero(move));
+                state = state.moveHero(maze, move);
+                assertEquals(game.checkForWin(), state.isWon());
+                if (!state.isWon()) {
+                    double tieBreak = random.nextDouble();
+                    GameState before = state;
+                    boolean minotaurMoved = game.moveMinotaur(tieBreak);
+                    state = state.moveMinotaur(maze, tieBreak);
+                    assertEquals(minotaurMoved, state != before);
+                    assertEquals(game.checkForLoss(), state.isLost());
+                }
+                assertEquals(game.getState(), state);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package model;
+
+import grid.GridPosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeroPoliciesTest {
+    MazeModel maze;
+    GameModel game;
+    SplittableRandom random;
+
+    @BeforeEach
+    public void beforeEach() {
+        maze = new MazeModel("testmaze", MazeSizeModel.MazeSize.MEDIUM, 7L);
+        game = new GameModel(maze, maze.getHeroStartPosition(), 0L);
+        random = new SplittableRandom(0L);
+    }
+
+    @Test
+    public void testRandom() {
+        HeroPolicy policy = HeroPolicies.random();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(maze.isMoveValid(game.getHeroPosition(), policy.chooseMove(maze, game, random)));
+        }
+    }
+
+    @Test
+    public void testGreedy() {
+        int[] distances = maze.findMoveDistances(maze.getTreasurePosition());
+        GridPosition heroPosition = game.getHeroPosition();
+        GridPosition move = HeroPolicies.greedy().chooseMove(maze, game, random);
+        assertTrue(maze.isMoveValid(heroPosition, move));
+        int sideLength = maze.getSideLength();
+        assertEquals(distances[heroPosition.getY() * sideLength + heroPosition.getX()] - 1,
+                distances[move.getY() * sideLength + move.getX()]);
+    }
+}
@@ -15,8 +15,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -203,6 +205,56 @@ public class MazeLayoutModelTest {
         }
     }
 
+    @Test
+    public void testAreSquaresBetweenUniform() {
+        for (MazeLayoutModel layout : layouts) {
+            // top-left finder pattern: passage ring around wall centre, so spans across the centre are mixed
+            assertTrue(layout.areSquaresBetweenUniform(new GridPosition(1, 1), new GridPosition(5, 1)));
+            assertTrue(layout.areSquaresBetweenUniform(new GridPosition(3, 1), new GridPosition(3, 5)));
+            assertFalse(layout.areSquaresBetweenUniform(new GridPosition(0, 2), new GridPosition(6, 2)));
+            assertFalse(layout.areSquaresBetweenUniform(new GridPosition(2, 6), new GridPosition(2, 0)));
+            // adjacent squares have nothing between them
+            assertTrue(layout.areSquaresBetweenUniform(new GridPosition(0, 0), new GridPosition(1, 0)));
+            // every span in random part of maze should match a square-by-square check
+            int sideLength = layout.getSideLength();
+            for (int y = 0; y < sideLength; y++) {
+                for (int x = 1; x < sideLength; x++) {
+                    GridPosition start = new GridPosition(0, y);
+                    GridPosition end = new GridPosition(x, y);
+                    assertEquals(
+                            bruteForceSpanUniform(layout, start, end),
+                            layout.areSquaresBetweenUniform(start, end));
+                    start = new GridPosition(y, 0);
+                    end = new GridPosition(y, x);
+                    assertEquals(
+                            bruteForceSpanUniform(layout, start, end),
+                            layout.areSquaresBetweenUniform(start, end));
+                }
+            }
+        }
+        try {
+            layouts.get(0).areSquaresBetweenUniform(new GridPosition(-1, 0), new GridPosition(3, 0));
+            fail(String.format("%s, start is out of bounds", FAIL_IF_NO_EXCEPTION));
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    private boolean bruteForceSpanUniform(MazeLayoutModel layout, GridPosition start, GridPosition end) {
+        int dx = Integer.signum(end.getX() - start.getX());
+        int dy = Integer.signum(end.getY() - start.getY());
+        GridPosition step = new GridPosition(dx, dy);
+        GridPosition current = start.add(step);
+        MazeLayoutModel.MazeSquare first = layout.getSquare(current);
+        while (!current.equals(end)) {
+            if (layout.getSquare(current) != first) {
+                return false;
+            }
+            current = current.add(step);
+        }
+        return true;
+    }
+
     @Test
     public void testGetTreasurePosition() {
         List<Integer> expectedPositions = new ArrayList<>(Arrays.asList(17, 21, 25, 29, 33));
@@ -229,6 +281,90 @@ public class MazeLayoutModelTest {
                 });
     }
 
+    @Test
+    public void testCreateRandomMazeFromSeed() {
+        for (MazeSizeModel.MazeSize size : MazeSizeModel.MazeSize.values()) {
+            MazeLayoutModel layoutOne = MazeLayoutModel.createRandomMaze(size, 42L);
+            MazeLayoutModel layoutTwo = MazeLayoutModel.createRandomMaze(size, 42L);
+            MazeLayoutModel otherSeedLayout = MazeLayoutModel.createRandomMaze(size, 43L);
+            assertEquals(layoutOne, layoutTwo);
+            assertEquals(layoutOne.getSaveData(), layoutTwo.getSaveData());
+            assertNotEquals(layoutOne, otherSeedLayout);
+        }
+    }
+
+    @Test
+    public void testCreateRandomMazeUnchangedForSeed() {
+        // layouts already saved as seeds must still generate the same way (see GENERATOR_VERSION)
+        MazeLayoutModel layout = MazeLayoutModel.createRandomMaze(MazeSizeModel.MazeSize.EXTRA_SMALL, 42L);
+        assertEquals(generateTestData("./data/test/testMazeLayoutSeed42.txt"), layout.getSaveData());
+    }
+
+    @Test
+    public void testCreateRandomMazeDoesNotShareTemplate() {
+        MazeLayoutModel layoutOne = MazeLayoutModel.createRandomMaze(MazeSizeModel.MazeSize.EXTRA_SMALL, 42L);
+        List<String> savedLayout = layoutOne.getSaveData();
+        layoutOne.overwrite(new GridPosition(0, 0), MazeLayoutModel.ALIGNMENT_PATTERN);
+        MazeLayoutModel layoutTwo = MazeLayoutModel.createRandomMaze(MazeSizeModel.MazeSize.EXTRA_SMALL, 42L);
+        assertEquals(savedLayout, layoutTwo.getSaveData());
+        assertNotEquals(layoutOne, layoutTwo);
+        assertTrue(layoutTwo.areSquaresBetweenUniform(new GridPosition(0, 0), new GridPosition(0, 6)));
+    }
+
+    @Test
+    public void testIsReachable() throws InvalidMazeSaveDataException {
+        // passages at (0, 0), (0, 5), (3, 5) and (10, 10), all other squares are walls
+        List<String> savedLayout = new ArrayList<>();
+        for (int y = 0; y < 25; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < 25; x++) {
+                boolean passage = (x == 0 && (y == 0 || y == 5)) || (x == 3 && y == 5) || (x == 10 && y == 10);
+                row.append(passage ? '.' : 'X');
+            }
+            savedLayout.add(row.toString());
+        }
+        MazeLayoutModel layout = MazeLayoutModel.createMazeFromMazeContent(MazeSizeModel.MazeSize.EXTRA_SMALL,
+                savedLayout);
+        GridPosition origin = new GridPosition(0, 0);
+        assertTrue(layout.isReachable(origin, origin));
+        assertTrue(layout.isReachable(origin, new GridPosition(0, 5)));
+        assertTrue(layout.isReachable(origin, new GridPosition(3, 5)));
+        assertTrue(layout.isReachable(new GridPosition(1, 0), new GridPosition(3, 5)));
+        assertFalse(layout.isReachable(origin, new GridPosition(10, 10)));
+        assertFalse(layout.isReachable(new GridPosition(3, 5), new GridPosition(10, 10)));
+        assertFalse(layout.isReachable(origin, new GridPosition(1, 0)));
+        try {
+            layout.isReachable(origin, new GridPosition(25, 0));
+            fail(FAIL_IF_NO_EXCEPTION);
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testEquals() {
+        List<String> testData = generateTestData("./data/test/testMazeLayout.txt");
+        MazeLayoutModel layoutOne = null;
+        MazeLayoutModel layoutTwo = null;
+        try {
+            layoutOne = MazeLayoutModel.createMazeFromMazeContent(MazeSizeModel.MazeSize.EXTRA_SMALL, testData);
+            layoutTwo = MazeLayoutModel.createMazeFromMazeContent(MazeSizeModel.MazeSize.EXTRA_SMALL, testData);
+        } catch (InvalidMazeSaveDataException e) {
+            fail(generateFailMessage(true, "maze data should be correct"));
+        }
+        assertEquals(layoutOne, layoutOne);
+        assertEquals(layoutOne, layoutTwo);
+        assertEquals(layoutOne.hashCode(), layoutTwo.hashCode());
+        assertNotEquals(layoutOne, null);
+        assertNotEquals(layoutOne, testData);
+        for (MazeLayoutModel layout : layouts) {
+            assertNotEquals(layoutOne, layout);
+        }
+        Set<MazeLayoutModel> layoutSet = new HashSet<>(layouts);
+        layoutSet.add(layoutOne);
+        assertTrue(layoutSet.contains(layoutTwo));
+    }
+
     @Test
     public void testInitFromSavedData() {
         List<String> testData = generateTestData("./data/test/testMazeLayout.txt");
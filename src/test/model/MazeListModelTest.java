@@ -88,6 +88,72 @@ public class MazeListModelTest {
         assertFalse(mazeList.containsSameName("maze 9"));
     }
 
+    @Test
+    void testRegisterOutcomeByIndex() throws Exception {
+        MazeModel first = new MazeModel(TEST_NAME, TEST_SIZE);
+        MazeModel second = new MazeModel(TEST_NAME, TEST_SIZE);
+        mazeList.addMazes(Arrays.asList(first, second));
+        assertEquals(0, mazeList.indexOf(first));
+        assertEquals(1, mazeList.indexOf(second));
+        assertEquals(-1, mazeList.indexOf(new MazeModel(TEST_NAME, TEST_SIZE)));
+        // names are the same, so only index tells mazes apart
+        assertTrue(mazeList.registerOutcome(1, TEST_NAME, MazeModel.Outcome.WIN));
+        assertEquals(0, first.getTotalPlays());
+        assertEquals(1, second.getTotalPlays());
+        assertFalse(mazeList.registerOutcome(0, "Not a maze", MazeModel.Outcome.WIN));
+        assertFalse(mazeList.registerOutcome(2, TEST_NAME, MazeModel.Outcome.WIN));
+        assertFalse(mazeList.registerOutcome(-1, TEST_NAME, MazeModel.Outcome.WIN));
+        assertEquals(0, first.getTotalPlays());
+        assertEquals(1, second.getTotalPlays());
+    }
+
+    @Test
+    void testCreateRandomMazes() throws Exception {
+        populateMazeList();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            names.add(String.format("batch %d", i));
+        }
+        mazeList.createRandomMazes(names, TEST_SIZE);
+        assertEquals(23, mazeList.getSize());
+        for (int i = 0; i < names.size(); i++) {
+            MazeModel maze = mazeList.getElementAt(i + 3);
+            assertEquals(names.get(i), maze.getName());
+            assertEquals(MazeSizeModel.getSizeName(TEST_SIZE), maze.getSizeName());
+            assertEquals(0, maze.getTotalPlays());
+            assertTrue(maze.isSolvable());
+        }
+        // generators are independent, so layouts differ
+        assertNotEquals(mazeList.getElementAt(3).getSaveData().subList(3, 8),
+                mazeList.getElementAt(4).getSaveData().subList(3, 8));
+    }
+
+    @Test
+    void testAddMazes() throws Exception {
+        populateMazeList();
+        MazeModel maze3 = new MazeModel("maze 3", TEST_SIZE);
+        MazeModel maze4 = new MazeModel("maze 4", TEST_SIZE);
+        mazeList.addMazes(Arrays.asList(maze3, maze4));
+        assertEquals(5, mazeList.getSize());
+        assertEquals(maze3, mazeList.getElementAt(3));
+        assertEquals(maze4, mazeList.getElementAt(4));
+        mazeList.addMazes(new ArrayList<>());
+        assertEquals(5, mazeList.getSize());
+    }
+
+    @Test
+    void testGetBinarySnapshot() throws Exception {
+        populateMazeList();
+        List<byte[]> records = mazeList.getBinarySnapshot();
+        assertEquals(3, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertArrayEquals(mazeList.getElementAt(i).getBinarySaveData(), records.get(i));
+        }
+        // snapshot doesn't follow later changes
+        mazeList.getElementAt(0).registerOutcome(MazeModel.Outcome.WIN);
+        assertFalse(Arrays.equals(mazeList.getElementAt(0).getBinarySaveData(), records.get(0)));
+    }
+
     // MODIFIES: mazeList
     // EFFECTS: adds three mazes to mazeList
     private void populateMazeList() throws Exception {
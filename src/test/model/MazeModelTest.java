@@ -9,10 +9,14 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -97,6 +101,44 @@ public class MazeModelTest {
         } catch (InvalidMazeSaveDataException e) {
             assertNotNull(e.getMessage());
         }
+        // lazy layouts must reject the same save data up front
+        try {
+            new MazeModel(validName, size, historyData, mazeData, true);
+            fail(generateFailMessage(false, reason));
+        } catch (InvalidMazeSaveDataException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInitFromSaveDataLazyLayout() {
+        MazeSizeModel.MazeSize testSize = MazeSizeModel.MazeSize.EXTRA_SMALL;
+        List<String> savedLayout = generateTestData("./data/test/testMazeLayout.txt");
+        List<String> savedOutcomeHistory = new ArrayList<>(Collections.singletonList("WLWLWWWLWWWL"));
+        MazeModel eagerMaze = null;
+        MazeModel lazyMaze = null;
+        MazeModel lazyDisplayMaze = null;
+        try {
+            eagerMaze = new MazeModel("eager", testSize, savedOutcomeHistory, savedLayout);
+            lazyMaze = new MazeModel("lazy", testSize, savedOutcomeHistory, savedLayout, true);
+            lazyDisplayMaze = new MazeModel("lazy", testSize, savedOutcomeHistory, savedLayout, true);
+        } catch (InvalidMazeSaveDataException e) {
+            fail(generateFailMessage(true, "save data should be valid"));
+        }
+        // save data is available before layout is built, and matches after
+        List<String> eagerSaveData = eagerMaze.getSaveData();
+        List<String> lazySaveData = lazyMaze.getSaveData();
+        assertEquals(eagerSaveData.subList(1, eagerSaveData.size()), lazySaveData.subList(1, lazySaveData.size()));
+        assertEquals(8, lazyMaze.getWins());
+        assertEquals(eagerMaze.getSideLength(), lazyMaze.getSideLength());
+        assertEquals(eagerMaze.displayMaze(), lazyDisplayMaze.displayMaze());
+        for (int y = 0; y < eagerMaze.getSideLength(); y++) {
+            for (int x = 0; x < eagerMaze.getSideLength(); x++) {
+                GridPosition position = new GridPosition(x, y);
+                assertEquals(eagerMaze.getAllValidMoves(position), lazyMaze.getAllValidMoves(position));
+            }
+        }
+        assertEquals(lazySaveData, lazyMaze.getSaveData());
     }
 
     @Test
@@ -196,6 +238,67 @@ public class MazeModelTest {
         }
     }
 
+    @Test
+    public void testGetValidMovesMatchesIsMoveValid() {
+        int sideLength = maze.getSideLength();
+        for (int y = 0; y < sideLength; y++) {
+            for (int x = 0; x < sideLength; x++) {
+                GridPosition start = new GridPosition(x, y);
+                for (MazeModel.Direction direction : MazeModel.Direction.values()) {
+                    List<GridPosition> expected = new ArrayList<>();
+                    GridPosition step = directionStep(direction);
+                    for (GridPosition end = start.add(step); inBounds(end, sideLength); end = end.add(step)) {
+                        if (maze.isMoveValid(start, end)) {
+                            expected.add(end);
+                        }
+                    }
+                    assertEquals(expected, maze.getValidMoves(start, direction));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGetValidMovesIsCached() {
+        GridPosition start = new GridPosition(1, 1);
+        assertSame(
+                maze.getValidMoves(start, MazeModel.Direction.DOWN),
+                maze.getValidMoves(start, MazeModel.Direction.DOWN));
+    }
+
+    @Test
+    public void testGetAllValidMoves() {
+        // corridors of top-left finder pattern: 4 down, 4 right, none up or left
+        List<GridPosition> allMoves = maze.getAllValidMoves(new GridPosition(1, 1));
+        assertEquals(8, allMoves.size());
+        assertTrue(allMoves.contains(new GridPosition(1, 5)));
+        assertTrue(allMoves.contains(new GridPosition(5, 1)));
+        try {
+            maze.getAllValidMoves(new GridPosition(-1, 0));
+            fail(generateFailMessage(false, "start position is out of bounds"));
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    private GridPosition directionStep(MazeModel.Direction direction) {
+        switch (direction) {
+            case UP:
+                return new GridPosition(0, -1);
+            case DOWN:
+                return new GridPosition(0, 1);
+            case LEFT:
+                return new GridPosition(-1, 0);
+            default:
+                return new GridPosition(1, 0);
+        }
+    }
+
+    private boolean inBounds(GridPosition position, int sideLength) {
+        return position.getX() >= 0 && position.getX() < sideLength
+                && position.getY() >= 0 && position.getY() < sideLength;
+    }
+
     @Test
     public void testGetValidMovesExceptions() {
         try {
@@ -212,6 +315,103 @@ public class MazeModelTest {
         }
     }
 
+    @Test
+    public void testIsSolvable() throws InvalidMazeSaveDataException {
+        MazeSizeModel.MazeSize testSize = MazeSizeModel.MazeSize.EXTRA_SMALL;
+        GridPosition start = MazeSizeModel.getHeroStartPosition(testSize);
+        GridPosition treasure = MazeSizeModel.getTreasurePosition(testSize);
+        // only start and treasure are passages, so no moves are possible
+        MazeModel walledOff = new MazeModel(TEST_NAME, testSize, new ArrayList<>(),
+                buildLayout(testSize, Arrays.asList(start, treasure)));
+        assertFalse(walledOff.isSolvable());
+        assertFalse(searchReachable(walledOff, start).contains(treasure));
+        // start's column reaches treasure's row, over walls
+        MazeModel bridged = new MazeModel(TEST_NAME, testSize, new ArrayList<>(),
+                buildLayout(testSize, Arrays.asList(start, treasure, new GridPosition(start.getX(), treasure.getY()))));
+        assertTrue(bridged.isSolvable());
+        assertTrue(searchReachable(bridged, start).contains(treasure));
+    }
+
+    @Test
+    public void testCreateSolvableMaze() {
+        for (long seed = 0; seed < 20; seed++) {
+            MazeModel solvable = MazeModel.createSolvableMaze(TEST_NAME, TEST_SIZE, seed);
+            assertTrue(solvable.isSolvable());
+            assertTrue(searchReachable(solvable, solvable.getHeroStartPosition())
+                    .contains(solvable.getTreasurePosition()));
+            MazeModel sameSeed = MazeModel.createSolvableMaze(TEST_NAME, TEST_SIZE, seed);
+            assertEquals(solvable.getLayoutSeed(), sameSeed.getLayoutSeed());
+        }
+    }
+
+    @Test
+    public void testFindMoveDistances() {
+        for (MazeSizeModel.MazeSize size : MazeSizeModel.MazeSize.values()) {
+            for (long seed = 0; seed < 5; seed++) {
+                MazeModel seeded = new MazeModel(TEST_NAME, size, seed);
+                GridPosition treasure = seeded.getTreasurePosition();
+                assertArrayEquals(searchDistances(seeded, treasure), seeded.findMoveDistances(treasure));
+                assertArrayEquals(searchDistances(seeded, treasure), seeded.getTreasureDistances());
+                assertSame(seeded.getTreasureDistances(), seeded.getTreasureDistances());
+            }
+        }
+        try {
+            maze.findMoveDistances(new GridPosition(-1, 0));
+            fail(generateFailMessage(false, "target is out of bounds"));
+        } catch (GridPositionOutOfBoundsException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    // EFFECTS: returns fewest moves from start to each square (by row-major index), found by breadth first search
+    //          squares that can't be reached have MazeLayoutModel.UNREACHABLE
+    private int[] searchDistances(MazeModel mazeModel, GridPosition start) {
+        int sideLength = mazeModel.getSideLength();
+        int[] distances = new int[sideLength * sideLength];
+        Arrays.fill(distances, MazeLayoutModel.UNREACHABLE);
+        distances[start.getY() * sideLength + start.getX()] = 0;
+        Deque<GridPosition> todo = new ArrayDeque<>(Collections.singletonList(start));
+        while (!todo.isEmpty()) {
+            GridPosition position = todo.remove();
+            int distance = distances[position.getY() * sideLength + position.getX()];
+            for (GridPosition move : mazeModel.getAllValidMoves(position)) {
+                if (distances[move.getY() * sideLength + move.getX()] == MazeLayoutModel.UNREACHABLE) {
+                    distances[move.getY() * sideLength + move.getX()] = distance + 1;
+                    todo.add(move);
+                }
+            }
+        }
+        return distances;
+    }
+
+    // EFFECTS: returns all positions reachable from start by valid moves, found by breadth first search
+    private Set<GridPosition> searchReachable(MazeModel mazeModel, GridPosition start) {
+        Set<GridPosition> reached = new HashSet<>(Collections.singletonList(start));
+        Deque<GridPosition> todo = new ArrayDeque<>(reached);
+        while (!todo.isEmpty()) {
+            for (GridPosition move : mazeModel.getAllValidMoves(todo.remove())) {
+                if (reached.add(move)) {
+                    todo.add(move);
+                }
+            }
+        }
+        return reached;
+    }
+
+    // EFFECTS: returns saved layout of given size with only WALL squares, except given PASSAGE positions
+    private List<String> buildLayout(MazeSizeModel.MazeSize size, List<GridPosition> passages) {
+        int sideLength = MazeSizeModel.getSideLength(size);
+        List<String> layout = new ArrayList<>();
+        for (int y = 0; y < sideLength; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < sideLength; x++) {
+                row.append(passages.contains(new GridPosition(x, y)) ? '.' : 'X');
+            }
+            layout.add(row.toString());
+        }
+        return layout;
+    }
+
     @Test
     void testToString() {
         addGameHistory();
@@ -230,6 +430,11 @@ public class MazeModelTest {
         assertEquals(78, maze.getWins());
         assertEquals(26, maze.getLosses());
         assertEquals(104, maze.getTotalPlays());
+        assertEquals(2, maze.getCurrentStreak());
+        assertEquals(MazeModel.Outcome.WIN, maze.getCurrentStreakOutcome());
+        assertEquals(Arrays.asList(MazeModel.Outcome.WIN, MazeModel.Outcome.WIN, MazeModel.Outcome.LOSS),
+                maze.getRecentOutcomes(3));
+        assertEquals(3, maze.getRecentWins(4));
     }
 
     // EFFECTS: add games to this maze's history
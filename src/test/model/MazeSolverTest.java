@@ -0,0 +1,82 @@
+package model;
+
+import exceptions.InvalidMazeSaveDataException;
+import grid.GridPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeSolverTest {
+    static final String TEST_NAME = "testmaze";
+    static final MazeSizeModel.MazeSize TEST_SIZE = MazeSizeModel.MazeSize.EXTRA_SMALL;
+    static final GridPosition HERO_START = MazeSizeModel.getHeroStartPosition(TEST_SIZE);
+    static final GridPosition TREASURE = MazeSizeModel.getTreasurePosition(TEST_SIZE);
+    static final GridPosition BRIDGE = new GridPosition(HERO_START.getX(), TREASURE.getY());
+    static final GridPosition MINOTAUR_START = new GridPosition(12, 12);  // can't move, nothing else in its lines
+
+    @Test
+    public void testSolve() throws InvalidMazeSaveDataException {
+        MazeModel maze = new MazeModel(TEST_NAME, TEST_SIZE, new ArrayList<>(),
+                buildLayout(Arrays.asList(HERO_START, TREASURE, BRIDGE, MINOTAUR_START)));
+        MazeSolver.Solution solution = new MazeSolver(maze).solve();
+        assertTrue(solution.isSolvable());
+        assertEquals(Arrays.asList(BRIDGE, TREASURE), solution.getMoves());
+        assertEquals(2, solution.getMoveCount());
+        assertEquals(2.0, solution.getDifficulty());
+        assertTrue(solution.getStatesSearched() > 0);
+    }
+
+    @Test
+    public void testSolveUnsolvable() throws InvalidMazeSaveDataException {
+        MazeModel maze = new MazeModel(TEST_NAME, TEST_SIZE, new ArrayList<>(),
+                buildLayout(Arrays.asList(HERO_START, TREASURE, MINOTAUR_START)));
+        MazeSolver.Solution solution = new MazeSolver(maze).solve();
+        assertFalse(solution.isSolvable());
+        assertTrue(solution.getMoves().isEmpty());
+        assertEquals(-1, solution.getMoveCount());
+        assertEquals(Double.POSITIVE_INFINITY, solution.getDifficulty());
+    }
+
+    @Test
+    public void testSolutionWinsGame() {
+        for (long seed = 0; seed < 20; seed++) {
+            MazeModel maze = new MazeModel(TEST_NAME, MazeSizeModel.MazeSize.MEDIUM, seed);
+            MazeSolver.Solution solution = new MazeSolver(maze).solve();
+            assertTrue(solution.isSolvable());
+            int heroStart = maze.getHeroStartPosition().getY() * maze.getSideLength()
+                    + maze.getHeroStartPosition().getX();
+            assertTrue(solution.getMoveCount() >= maze.findMoveDistances(maze.getTreasurePosition())[heroStart]);
+            assertTrue(solution.getDifficulty() >= solution.getMoveCount());
+            assertTrue(solution.getDifficulty() <= 2 * solution.getMoveCount());
+            // game with same tie-break follows solution exactly
+            GameModel game = new GameModel(maze, maze.getHeroStartPosition(), seed);
+            List<GridPosition> moves = solution.getMoves();
+            for (int i = 0; i < moves.size() - 1; i++) {
+                assertTrue(game.moveHero(moves.get(i)));
+                assertFalse(game.checkForWin());
+                game.moveMinotaur(MazeSolver.DEFAULT_TIE_BREAK);
+                assertFalse(game.checkForLoss());
+            }
+            assertTrue(game.moveHero(moves.get(moves.size() - 1)));
+            assertTrue(game.checkForWin());
+        }
+    }
+
+    // EFFECTS: returns saved layout of test size with only WALL squares, except given PASSAGE positions
+    private List<String> buildLayout(List<GridPosition> passages) {
+        int sideLength = MazeSizeModel.getSideLength(TEST_SIZE);
+        List<String> layout = new ArrayList<>();
+        for (int y = 0; y < sideLength; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < sideLength; x++) {
+                row.append(passages.contains(new GridPosition(x, y)) ? '.' : 'X');
+            }
+            layout.add(row.toString());
+        }
+        return layout;
+    }
+}
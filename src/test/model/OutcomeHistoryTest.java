@@ -0,0 +1,119 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static model.MazeModel.Outcome.LOSS;
+import static model.MazeModel.Outcome.WIN;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutcomeHistoryTest {
+    private OutcomeHistory history;
+    private List<MazeModel.Outcome> expectedMostRecentFirst;
+
+    @BeforeEach
+    public void beforeEach() {
+        history = new OutcomeHistory();
+        expectedMostRecentFirst = new ArrayList<>();
+        // 150 games, spanning 3 words: wins on every third game, then a 5 game losing streak
+        for (int i = 0; i < 150; i++) {
+            MazeModel.Outcome outcome = (i < 145 && i % 3 == 0) ? WIN : LOSS;
+            history.add(outcome);
+            expectedMostRecentFirst.add(0, outcome);
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        OutcomeHistory empty = new OutcomeHistory();
+        assertEquals(0, empty.size());
+        assertEquals(0, empty.getWins());
+        assertEquals(0, empty.getLosses());
+        assertEquals(0, empty.getCurrentStreak());
+        assertNull(empty.getCurrentStreakOutcome());
+        assertEquals(0, empty.getWinsInLast(10));
+        assertTrue(empty.getLast(10).isEmpty());
+        assertEquals(0, empty.toPacked().length);
+    }
+
+    @Test
+    public void testTotals() {
+        assertEquals(150, history.size());
+        assertEquals(49, history.getWins());
+        assertEquals(101, history.getLosses());
+    }
+
+    @Test
+    public void testGet() {
+        for (int i = 0; i < expectedMostRecentFirst.size(); i++) {
+            assertEquals(expectedMostRecentFirst.get(i), history.get(i));
+        }
+        try {
+            history.get(150);
+            fail("Exception expected");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            history.get(-1);
+            fail("Exception expected");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testGetLast() {
+        assertEquals(expectedMostRecentFirst.subList(0, 10), history.getLast(10));
+        assertEquals(expectedMostRecentFirst, history.getLast(1000));
+        assertTrue(history.getLast(0).isEmpty());
+    }
+
+    @Test
+    public void testGetWinsInLast() {
+        for (int n = 0; n <= 150; n++) {
+            int expectedWins = 0;
+            for (MazeModel.Outcome outcome : expectedMostRecentFirst.subList(0, n)) {
+                expectedWins += outcome == WIN ? 1 : 0;
+            }
+            assertEquals(expectedWins, history.getWinsInLast(n));
+        }
+        assertEquals(49, history.getWinsInLast(1000));
+        assertEquals(0, history.getWinsInLast(-1));
+    }
+
+    @Test
+    public void testCurrentStreak() {
+        // most recent games: 5 streak losses, plus 2 losses after last win (game 144)
+        assertEquals(LOSS, history.getCurrentStreakOutcome());
+        assertEquals(5, history.getCurrentStreak());
+        history.add(WIN);
+        assertEquals(WIN, history.getCurrentStreakOutcome());
+        assertEquals(1, history.getCurrentStreak());
+        history.add(WIN);
+        assertEquals(2, history.getCurrentStreak());
+    }
+
+    @Test
+    public void testFromMostRecentFirst() {
+        OutcomeHistory copy = OutcomeHistory.fromMostRecentFirst(expectedMostRecentFirst);
+        assertEquals(expectedMostRecentFirst, copy.getLast(150));
+        assertEquals(49, copy.getWins());
+        assertEquals(5, copy.getCurrentStreak());
+    }
+
+    @Test
+    public void testPackedRoundTrip() {
+        byte[] packed = history.toPacked();
+        assertEquals(19, packed.length);
+        OutcomeHistory copy = OutcomeHistory.fromPacked(150, packed);
+        assertEquals(expectedMostRecentFirst, copy.getLast(150));
+        // bit 0 is most recent game
+        OutcomeHistory small = OutcomeHistory.fromMostRecentFirst(Arrays.asList(WIN, LOSS, WIN));
+        assertArrayEquals(new byte[] {0b101}, small.toPacked());
+    }
+}
@@ -0,0 +1,145 @@
+package persistence;
+
+import model.MazeListModel;
+import model.MazeModel;
+import model.MazeSizeModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryReaderTest {
+    private static final String TEST_READ_FILE = "./data/test/testMazeListMultipleLists.txt";
+    private static final String TEST_TRASH_FILE = "./data/test/corruptedSaveTrash.txt";
+
+    private List<MazeModel> testMazes;
+    private File binaryFile;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        testMazes = Reader.readMazeList(new File(TEST_READ_FILE));
+        binaryFile = Files.createTempFile("testMazeListBinary", ".bin").toFile();
+        binaryFile.deleteOnExit();
+        BinaryWriter writer = new BinaryWriter(binaryFile);
+        writer.write(new MazeListModel(testMazes));
+        writer.commit();
+    }
+
+    @Test
+    void testRoundTrip() {
+        try {
+            List<MazeModel> readMazes = BinaryReader.readMazeList(binaryFile, TEST_TRASH_FILE);
+            assertEquals(testMazes.size(), readMazes.size());
+            for (int i = 0; i < testMazes.size(); i++) {
+                // text save data covers name, size, game history and layout
+                assertEquals(testMazes.get(i).getSaveData(), readMazes.get(i).getSaveData());
+            }
+            assertTrue(binaryFile.length() * 4 < new File(TEST_READ_FILE).length());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testFailedWriteAborted() throws IOException {
+        byte[] savedBytes = Files.readAllBytes(binaryFile.toPath());
+        File tempFile = new File(binaryFile.getPath() + ".tmp");
+        try (BinaryWriter writer = new BinaryWriter(binaryFile)) {
+            assertTrue(tempFile.exists());
+            writer.write(dataOutputStream -> {
+                dataOutputStream.writeInt(1);
+                throw new IOException("Write failed");
+            });
+            writer.commit();
+            fail("Exception expected");
+        } catch (IOException e) {
+            assertEquals("Write failed", e.getMessage());
+        }
+        assertFalse(tempFile.exists());
+        assertArrayEquals(savedBytes, Files.readAllBytes(binaryFile.toPath()));
+    }
+
+    @Test
+    void testSeededMazesRoundTrip() {
+        MazeListModel seededMazes = new MazeListModel();
+        seededMazes.createRandomMazes(Arrays.asList("seeded 0", "seeded 1"), MazeSizeModel.MazeSize.EXTRA_LARGE, 7L);
+        seededMazes.getElementAt(0).registerOutcome(MazeModel.Outcome.WIN);
+        try {
+            BinaryWriter writer = new BinaryWriter(binaryFile);
+            writer.write(seededMazes);
+            writer.commit();
+            // header, maze count, then per maze: length, name, size code, plays, history, seed, checksum
+            assertTrue(binaryFile.length() < 100);
+            List<MazeModel> readMazes = BinaryReader.readMazeList(binaryFile, TEST_TRASH_FILE);
+            assertEquals(2, readMazes.size());
+            for (int i = 0; i < readMazes.size(); i++) {
+                MazeModel seededMaze = seededMazes.getElementAt(i);
+                assertEquals(seededMaze.getLayoutSeed(), readMazes.get(i).getLayoutSeed());
+                assertEquals(seededMaze.getSaveData(), readMazes.get(i).getSaveData());
+            }
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testIsBinarySaveFile() {
+        try {
+            assertTrue(BinaryReader.isBinarySaveFile(binaryFile));
+            assertFalse(BinaryReader.isBinarySaveFile(new File(TEST_READ_FILE)));
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+        try {
+            BinaryReader.readMazeList(new File(TEST_READ_FILE), TEST_TRASH_FILE);
+            fail("Exception expected, text file is not a binary save file");
+        } catch (IOException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    void testCorruptedRecordTrashed() {
+        try (RandomAccessFile file = new RandomAccessFile(binaryFile, "rw")) {
+            // header is 5 bytes, maze count is 4 bytes, first record length is 4 bytes
+            // flip a bit in first maze's name, so its checksum no longer matches
+            long namePosition = 5 + 4 + 4 + 2;
+            file.seek(namePosition);
+            int nameByte = file.read();
+            file.seek(namePosition);
+            file.write(nameByte ^ 1);
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+        try {
+            List<MazeModel> readMazes = BinaryReader.readMazeList(binaryFile, TEST_TRASH_FILE);
+            assertEquals(testMazes.size() - 1, readMazes.size());
+            assertEquals(testMazes.get(1).getName(), readMazes.get(0).getName());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testTruncatedFile() {
+        try (RandomAccessFile file = new RandomAccessFile(binaryFile, "rw")) {
+            file.setLength(file.length() - 1);
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+        try {
+            List<MazeModel> readMazes = BinaryReader.readMazeList(binaryFile, TEST_TRASH_FILE);
+            assertEquals(testMazes.size() - 1, readMazes.size());
+            assertEquals(testMazes.get(0).getName(), readMazes.get(0).getName());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package persistence;
+
+import exceptions.InvalidMazeSaveDataException;
+import model.MazeListModel;
+import model.MazeModel;
+import model.MazeSizeModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeLibraryTest {
+    private static final String TEST_READ_FILE = "./data/test/testMazeListMultipleLists.txt";
+    private static final String TEST_TRASH_FILE = "./data/test/corruptedSaveTrash.txt";
+
+    private List<MazeModel> testMazes;
+    private File binaryFile;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        testMazes = Reader.readMazeList(new File(TEST_READ_FILE));
+        binaryFile = Files.createTempFile("testMazeLibrary", ".bin").toFile();
+        binaryFile.deleteOnExit();
+        BinaryWriter writer = new BinaryWriter(binaryFile);
+        writer.write(new MazeListModel(testMazes));
+        writer.commit();
+    }
+
+    @Test
+    void testOpenAndReadMaze() {
+        try {
+            MazeLibrary library = MazeLibrary.open(binaryFile, TEST_TRASH_FILE);
+            assertEquals(testMazes.size(), library.size());
+            for (int i = 0; i < testMazes.size(); i++) {
+                assertEquals(testMazes.get(i).getName(), library.getName(i));
+                assertEquals(i, library.indexOf(testMazes.get(i).getName()));
+                assertEquals(testMazes.get(i).getSaveData(), library.readMaze(i).getSaveData());
+            }
+            assertEquals(-1, library.indexOf("not a maze"));
+        } catch (IOException | InvalidMazeSaveDataException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testOpenWithoutMapping() {
+        try {
+            MazeLibrary library = MazeLibrary.open(binaryFile, TEST_TRASH_FILE, false);
+            assertEquals(testMazes.size(), library.size());
+            for (int i = 0; i < testMazes.size(); i++) {
+                assertEquals(testMazes.get(i).getSaveData(), library.readMaze(i).getSaveData());
+            }
+            // file can be replaced while library is open, and library keeps showing old contents
+            BinaryWriter writer = new BinaryWriter(binaryFile);
+            writer.write(new MazeListModel());
+            writer.commit();
+            assertEquals(testMazes.get(0).getSaveData(), library.readMaze(0).getSaveData());
+        } catch (IOException | InvalidMazeSaveDataException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testOpenException() {
+        try {
+            MazeLibrary.open(new File(TEST_READ_FILE), TEST_TRASH_FILE);
+            fail("Exception expected, text file is not a binary save file");
+        } catch (IOException e) {
+            assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    void testCorruptedRecordLeftOut() {
+        try (RandomAccessFile file = new RandomAccessFile(binaryFile, "rw")) {
+            // flip a bit in first maze's name (after header, maze count, record length and name length)
+            long namePosition = 5 + 4 + 4 + 2;
+            file.seek(namePosition);
+            int nameByte = file.read();
+            file.seek(namePosition);
+            file.write(nameByte ^ 1);
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+        try {
+            MazeLibrary library = MazeLibrary.open(binaryFile, TEST_TRASH_FILE);
+            assertEquals(testMazes.size() - 1, library.size());
+            assertEquals(testMazes.get(1).getName(), library.getName(0));
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testMazeListFromLibrary() {
+        try {
+            MazeListModel mazeList = MazeListModel.createFromLibrary(MazeLibrary.open(binaryFile, TEST_TRASH_FILE));
+            assertEquals(testMazes.size(), mazeList.getSize());
+            assertTrue(mazeList.containsSameName(testMazes.get(1).getName()));
+            // change first maze only, second is saved again straight from library
+            mazeList.getElementAt(0).registerOutcome(MazeModel.Outcome.WIN);
+            mazeList.createRandomMaze("new maze", MazeSizeModel.MazeSize.EXTRA_SMALL);
+            BinaryWriter writer = new BinaryWriter(binaryFile);
+            writer.write(mazeList);
+            writer.commit();
+            List<MazeModel> savedMazes = BinaryReader.readMazeList(binaryFile, TEST_TRASH_FILE);
+            assertEquals(testMazes.size() + 1, savedMazes.size());
+            assertEquals(testMazes.get(0).getTotalPlays() + 1, savedMazes.get(0).getTotalPlays());
+            assertEquals(testMazes.get(1).getSaveData(), savedMazes.get(1).getSaveData());
+            assertEquals("new maze", savedMazes.get(2).getName());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+}
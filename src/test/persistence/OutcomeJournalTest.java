@@ -0,0 +1,227 @@
+package persistence;
+
+import model.MazeListModel;
+import model.MazeModel;
+import model.MazeSizeModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutcomeJournalTest {
+    private static final String TEST_READ_FILE = "./data/test/testMazeListMultipleLists.txt";
+    private static final int SAVE_FILE_CHECKSUM = 12345;
+
+    private MazeListModel mazeList;
+    private String firstMazeName;
+    private int firstMazePlays;
+    private File journalFile;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        mazeList = new MazeListModel(Reader.readMazeList(new File(TEST_READ_FILE)));
+        firstMazeName = mazeList.getElementAt(0).getName();
+        firstMazePlays = mazeList.getElementAt(0).getTotalPlays();
+        journalFile = Files.createTempFile("testOutcomeJournal", ".journal").toFile();
+        journalFile.deleteOnExit();
+    }
+
+    @Test
+    void testAppendAndReplay() {
+        try {
+            OutcomeJournal journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, mazeList);
+            assertEquals(0, journal.getEntryCount());
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            journal.append(0, firstMazeName, MazeModel.Outcome.LOSS);
+            // don't match a maze in list, so are skipped on replay
+            journal.append(0, "Not a maze", MazeModel.Outcome.WIN);
+            journal.append(mazeList.getSize(), firstMazeName, MazeModel.Outcome.WIN);
+            assertEquals(4, journal.getEntryCount());
+            journal.close();
+
+            MazeListModel reloaded = new MazeListModel(Reader.readMazeList(new File(TEST_READ_FILE)));
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, reloaded);
+            assertEquals(4, journal.getEntryCount());
+            MazeModel maze = reloaded.getElementAt(0);
+            assertEquals(firstMazePlays + 2, maze.getTotalPlays());
+            assertEquals(MazeModel.Outcome.LOSS, maze.getCurrentStreakOutcome());
+            journal.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReplayToDuplicateName() {
+        try {
+            List<MazeModel> mazes = new ArrayList<>();
+            mazes.add(new MazeModel("Twin", MazeSizeModel.MazeSize.SMALL, 1L));
+            mazes.add(new MazeModel("Twin", MazeSizeModel.MazeSize.SMALL, 2L));
+            OutcomeJournal journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, new MazeListModel(mazes));
+            journal.append(1, "Twin", MazeModel.Outcome.WIN);
+            journal.close();
+
+            MazeListModel reloaded = new MazeListModel(new ArrayList<>(Arrays.asList(
+                    new MazeModel("Twin", MazeSizeModel.MazeSize.SMALL, 1L),
+                    new MazeModel("Twin", MazeSizeModel.MazeSize.SMALL, 2L))));
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, reloaded);
+            assertEquals(0, reloaded.getElementAt(0).getTotalPlays());
+            assertEquals(1, reloaded.getElementAt(1).getTotalPlays());
+            journal.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testJournalForOtherSaveFileDropped() {
+        try {
+            OutcomeJournal journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, mazeList);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            journal.close();
+
+            // save file was rewritten (so already has journal's outcome), but journal wasn't cleared
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM + 1, mazeList);
+            assertEquals(0, journal.getEntryCount());
+            assertEquals(firstMazePlays, mazeList.getElementAt(0).getTotalPlays());
+            journal.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testPartlyWrittenEntryDropped() {
+        try {
+            OutcomeJournal journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, mazeList);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            journal.close();
+            try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+                file.setLength(file.length() - 1);
+            }
+
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, mazeList);
+            assertEquals(1, journal.getEntryCount());
+            // new entries follow last complete entry
+            journal.append(0, firstMazeName, MazeModel.Outcome.LOSS);
+            journal.close();
+            MazeListModel reloaded = new MazeListModel(Reader.readMazeList(new File(TEST_READ_FILE)));
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, reloaded);
+            assertEquals(2, journal.getEntryCount());
+            assertEquals(MazeModel.Outcome.LOSS, reloaded.getElementAt(0).getCurrentStreakOutcome());
+            journal.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testCompactKeepsEntriesAfterSnapshot() {
+        try {
+            OutcomeJournal journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, mazeList);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            // save snapshot was taken here, then more games were played while it was written
+            journal.append(0, firstMazeName, MazeModel.Outcome.LOSS);
+            journal.compact(SAVE_FILE_CHECKSUM + 1, 2);
+            assertEquals(1, journal.getEntryCount());
+            journal.append(0, firstMazeName, MazeModel.Outcome.LOSS);
+            journal.close();
+
+            MazeListModel reloaded = new MazeListModel(Reader.readMazeList(new File(TEST_READ_FILE)));
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM + 1, reloaded);
+            assertEquals(2, journal.getEntryCount());
+            MazeModel maze = reloaded.getElementAt(0);
+            assertEquals(firstMazePlays + 2, maze.getTotalPlays());
+            assertEquals(MazeModel.Outcome.LOSS, maze.getCurrentStreakOutcome());
+            assertEquals(2, maze.getCurrentStreak());
+            journal.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testSaveReplacedBeforeCompact() {
+        try {
+            OutcomeJournal journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, mazeList);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            // save snapshot was taken here, then a game was played while it was written
+            journal.prepareForSave(SAVE_FILE_CHECKSUM + 1, 2);
+            journal.append(0, firstMazeName, MazeModel.Outcome.LOSS);
+            journal.close();
+
+            // app stopped after save file was replaced, before journal was compacted
+            MazeListModel reloaded = new MazeListModel(Reader.readMazeList(new File(TEST_READ_FILE)));
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM + 1, reloaded);
+            assertEquals(1, journal.getEntryCount());
+            MazeModel maze = reloaded.getElementAt(0);
+            assertEquals(firstMazePlays + 1, maze.getTotalPlays());
+            assertEquals(MazeModel.Outcome.LOSS, maze.getCurrentStreakOutcome());
+            journal.close();
+
+            // journal was compacted to follow new save file
+            reloaded = new MazeListModel(Reader.readMazeList(new File(TEST_READ_FILE)));
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM + 1, reloaded);
+            assertEquals(1, journal.getEntryCount());
+            assertEquals(firstMazePlays + 1, reloaded.getElementAt(0).getTotalPlays());
+            journal.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testSaveNotReplacedAfterPrepare() {
+        try {
+            OutcomeJournal journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, mazeList);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            journal.prepareForSave(SAVE_FILE_CHECKSUM + 1, 1);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+            journal.close();
+
+            // app stopped before save file was replaced, so old save file has none of journal's games
+            MazeListModel reloaded = new MazeListModel(Reader.readMazeList(new File(TEST_READ_FILE)));
+            journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, reloaded);
+            assertEquals(2, journal.getEntryCount());
+            assertEquals(firstMazePlays + 2, reloaded.getElementAt(0).getTotalPlays());
+            journal.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testClearAfterSave() {
+        try {
+            OutcomeJournal journal = OutcomeJournal.open(journalFile, SAVE_FILE_CHECKSUM, mazeList);
+            journal.append(0, firstMazeName, MazeModel.Outcome.WIN);
+
+            File saveFile = Files.createTempFile("testOutcomeJournalSave", ".bin").toFile();
+            saveFile.deleteOnExit();
+            BinaryWriter writer = new BinaryWriter(saveFile);
+            writer.write(mazeList);
+            writer.commit();
+            assertEquals(OutcomeJournal.checksumFile(saveFile), writer.getFileChecksum());
+            journal.clear(writer.getFileChecksum());
+            assertEquals(0, journal.getEntryCount());
+            journal.close();
+
+            journal = OutcomeJournal.open(journalFile, writer.getFileChecksum(), mazeList);
+            assertEquals(0, journal.getEntryCount());
+            journal.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+}
@@ -16,6 +16,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -119,6 +121,80 @@ public class ReaderTest {
         }
     }
 
+    @Test
+    public void testStreamMazeList() {
+        try (Stream<MazeModel> mazes = Reader.streamMazeList(new File("./data/test/testMazeListMultipleLists.txt"))) {
+            Iterator<MazeModel> mazeIterator = mazes.iterator();
+            testMaze(mazeIterator.next(),
+                    "one",
+                    MazeSizeModel.MazeSize.EXTRA_SMALL,
+                    0,
+                    0);
+            testMaze(mazeIterator.next(),
+                    "two",
+                    MazeSizeModel.MazeSize.EXTRA_LARGE,
+                    5,
+                    5);
+            assertFalse(mazeIterator.hasNext());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+        String testTrashFilePath = "./data/test/corruptedSaveTrash.txt";
+        assertTrue(clearTestTrash(testTrashFilePath));
+        try (Stream<MazeModel> mazes = Reader.streamMazeList(
+                new File("./data/test/testMazeListCorruptedSaves.txt"), testTrashFilePath)) {
+            // only valid maze comes through, stream skips past corrupted ones
+            assertEquals(Collections.singletonList("goodmaze"),
+                    mazes.map(MazeModel::getName).collect(Collectors.toList()));
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    public void testReadManyMazesInOrder() {
+        List<MazeModel> savedMazes = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            MazeSizeModel.MazeSize size = MazeSizeModel.MazeSize.values()[i % MazeSizeModel.MazeSize.values().length];
+            savedMazes.add(new MazeModel(String.format("maze%d", i), size));
+        }
+        try {
+            File saveFile = Files.createTempFile("testMazeListMany", ".txt").toFile();
+            saveFile.deleteOnExit();
+            Writer writer = new Writer(saveFile);
+            writer.write(new MazeListModel(savedMazes));
+            writer.close();
+            List<MazeModel> readMazes = Reader.readMazeList(saveFile);
+            assertEquals(savedMazes.size(), readMazes.size());
+            for (int i = 0; i < savedMazes.size(); i++) {
+                assertEquals(savedMazes.get(i).getName(), readMazes.get(i).getName());
+                assertEquals(savedMazes.get(i).getSaveData(), readMazes.get(i).getSaveData());
+            }
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    public void testReadWithLazyLayouts() {
+        File saveFile = new File("./data/test/testMazeListMultipleLists.txt");
+        try {
+            List<MazeModel> eagerMazes = Reader.readMazeList(saveFile);
+            Reader.setLazyLayouts(true);
+            assertTrue(Reader.isLazyLayouts());
+            List<MazeModel> lazyMazes = Reader.readMazeList(saveFile);
+            assertEquals(eagerMazes.size(), lazyMazes.size());
+            for (int i = 0; i < eagerMazes.size(); i++) {
+                assertEquals(eagerMazes.get(i).getSaveData(), lazyMazes.get(i).getSaveData());
+                assertEquals(eagerMazes.get(i).getMinotaurStartPosition(), lazyMazes.get(i).getMinotaurStartPosition());
+            }
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        } finally {
+            Reader.setLazyLayouts(false);
+        }
+    }
+
     private boolean clearTestTrash(String trashFilePath) {
         // check if file exists
         // if exists, attempt delete
@@ -0,0 +1,75 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyStatsTest {
+    @Test
+    public void testEmpty() {
+        LatencyStats stats = new LatencyStats();
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.getLastNanos());
+        assertEquals(0, stats.getMaxNanos());
+        assertEquals(0, stats.getMeanNanos());
+        assertEquals(0, stats.getRecentPercentileNanos(95));
+    }
+
+    @Test
+    public void testRecord() {
+        LatencyStats stats = new LatencyStats();
+        for (long nanos = 1; nanos <= 100; nanos++) {
+            stats.record(nanos);
+        }
+        stats.record(50);
+        assertEquals(101, stats.getCount());
+        assertEquals(50, stats.getLastNanos());
+        assertEquals(100, stats.getMaxNanos());
+        assertEquals(5100.0 / 101, stats.getMeanNanos(), 1e-9);
+        assertEquals(1, stats.getRecentPercentileNanos(0));
+        assertEquals(50, stats.getRecentPercentileNanos(50));
+        assertEquals(95, stats.getRecentPercentileNanos(95));
+        assertEquals(100, stats.getRecentPercentileNanos(100));
+    }
+
+    @Test
+    public void testRecentPercentileOnlyUsesRecentSamples() {
+        LatencyStats stats = new LatencyStats();
+        stats.record(1000000);
+        for (int i = 0; i < LatencyStats.RECENT_SAMPLES; i++) {
+            stats.record(10);
+        }
+        assertEquals(10, stats.getRecentPercentileNanos(100));
+        assertEquals(1000000, stats.getMaxNanos());
+    }
+
+    @Test
+    public void testRecordSince() {
+        LatencyStats stats = new LatencyStats();
+        stats.recordSince(System.nanoTime());
+        stats.recordSince(System.nanoTime() + 1000000000L);  // start in future is recorded as 0
+        assertEquals(2, stats.getCount());
+        assertEquals(0, stats.getLastNanos());
+        assertTrue(stats.getMaxNanos() >= 0);
+    }
+
+    @Test
+    public void testToString() {
+        LatencyStats stats = new LatencyStats();
+        for (long millis = 1; millis <= 100; millis++) {
+            stats.record(millis * 1000000L);
+        }
+        assertEquals("100 samples, p50 50.000 ms, p99 99.000 ms, max 100.000 ms", stats.toString());
+    }
+
+    @Test
+    public void testNanoTimeOf() {
+        long before = System.nanoTime();
+        long eventNanos = LatencyStats.nanoTimeOf(System.currentTimeMillis() - 1000);
+        // event a second ago is about a second before now (allowing for clock resolution)
+        assertTrue(before - eventNanos > 900000000L);
+        assertTrue(before - eventNanos < 2000000000L);
+        // event in future is taken as now
+        assertTrue(LatencyStats.nanoTimeOf(System.currentTimeMillis() + 1000) >= before);
+    }
+}